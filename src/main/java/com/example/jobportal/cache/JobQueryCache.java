@@ -0,0 +1,263 @@
+package com.example.jobportal.cache;
+
+import com.example.jobportal.dto.JobResponse;
+import com.example.jobportal.search.JobDocument;
+import com.example.jobportal.search.JobIndex;
+import com.example.jobportal.search.JobTokenizer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded (W-TinyLFU) cache of public job list results keyed by the normalised query, weighed by the
+ * number of jobs each result holds so the bound follows memory rather than the number of queries.
+ * It is a {@link JobIndex}, so every committed job write reaches it through {@code JobIndexer}
+ * and evicts only the entries that listed the job or whose query the new version would match.
+ * <p>
+ * That invalidation is node-local: a write committed on another node only reaches this cache when
+ * the entry expires, so with several nodes the TTL is the bound on how stale a list can be.
+ */
+@Component
+public class JobQueryCache implements JobIndex {
+
+    public static final String CACHE_NAME = "jobQueries";
+
+    public enum Kind { ACTIVE, SEARCH, LOCATION, TYPE, LEVEL }
+
+    private final Cache<QueryKey, CachedResult> cache;
+
+    // Bumped by every invalidation; a load that started before one is not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Object writeLock = new Object();
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    public JobQueryCache(@Value("${jobportal.cache.job-queries.max-rows:200000}") long maxRows,
+                         @Value("${jobportal.cache.job-queries.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxRows)
+                .weigher((QueryKey key, CachedResult result) -> result.jobs.size() + 1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        }
+    }
+
+    /**
+     * Cached result of the query, or the loader's result, which is cached unless a job write
+     * committed while it was loading. The loader is given the normalised value the result is cached under.
+     */
+    public List<JobResponse> get(Kind kind, String value, Function<String, List<JobResponse>> loader) {
+        return get(kind, value, loader, JobResponse::getId);
+    }
+
+    /**
+     * As {@link #get(Kind, String, Function)} for any job list element; a kind must always be loaded as the same type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(Kind kind, String value, Function<String, List<T>> loader, Function<T, Long> idOf) {
+        QueryKey key = new QueryKey(kind, normalize(kind, value));
+        CachedResult cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (List<T>) cached.jobs;
+        }
+
+        long loadGeneration = generation.get();
+        List<T> jobs = List.copyOf(loader.apply(key.value));
+        Set<Long> jobIds = new HashSet<>();
+        for (T job : jobs) {
+            jobIds.add(idOf.apply(job));
+        }
+        CachedResult result = new CachedResult(key, jobs, jobIds);
+        synchronized (writeLock) {
+            if (generation.get() == loadGeneration) {
+                cache.put(key, result);
+            }
+        }
+        return jobs;
+    }
+
+    @Override
+    public void index(JobDocument document) {
+        long jobId = document.getId();
+        ChangedJob changed = new ChangedJob(document);
+        invalidate(result -> result.jobIds.contains(jobId) || result.matches(changed));
+    }
+
+    @Override
+    public void remove(long jobId) {
+        invalidate(result -> result.jobIds.contains(jobId));
+    }
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            generation.incrementAndGet();
+            cache.invalidateAll();
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Loads that started before the generation bump are not stored, so the entries present when
+     * the scan starts are all it has to check, and the scan itself needs no lock
+     */
+    private void invalidate(Predicate<CachedResult> stale) {
+        synchronized (writeLock) {
+            generation.incrementAndGet();
+        }
+        cache.asMap().values().removeIf(stale);
+    }
+
+    // Type and level are exact matches in SQL, so only surrounding blanks are dropped; the rest are case-insensitive LIKEs
+    private static String normalize(Kind kind, String value) {
+        if (value == null) {
+            return "";
+        }
+        if (kind == Kind.TYPE || kind == Kind.LEVEL) {
+            return value.trim();
+        }
+        return normalize(value);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class QueryKey {
+        final Kind kind;
+        final String value;
+
+        QueryKey(Kind kind, String value) {
+            this.kind = kind;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey other = (QueryKey) o;
+            return kind == other.kind && value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * kind.hashCode() + value.hashCode();
+        }
+    }
+
+    private static final class CachedResult {
+        final QueryKey key;
+        final List<?> jobs;
+        final Set<Long> jobIds;
+        // Search terms of the query, tokenized once when the result is stored
+        final List<String> terms;
+
+        CachedResult(QueryKey key, List<?> jobs, Set<Long> jobIds) {
+            this.key = key;
+            this.jobs = jobs;
+            this.jobIds = jobIds;
+            this.terms = key.kind == Kind.SEARCH ? JobTokenizer.tokenize(key.value) : List.of();
+        }
+
+        /**
+         * Whether the job could appear in this query's result. Errs towards true: a needless eviction
+         * only costs a reload, a missed one serves a stale list.
+         */
+        boolean matches(ChangedJob job) {
+            switch (key.kind) {
+                case TYPE:
+                    return key.value.equalsIgnoreCase(job.jobType);
+                case LEVEL:
+                    return key.value.equalsIgnoreCase(job.experienceLevel);
+                case LOCATION:
+                    return job.location.contains(key.value);
+                case SEARCH:
+                    return searchMatches(job);
+                default:
+                    return true;
+            }
+        }
+
+        // Covers the LIKE, in-memory index and FULLTEXT search paths: a substring hit or any shared term prefix
+        private boolean searchMatches(ChangedJob job) {
+            for (String field : job.searchFields) {
+                if (field.contains(key.value)) {
+                    return true;
+                }
+            }
+            for (String queryTerm : terms) {
+                String next = job.terms.ceiling(queryTerm);
+                if (next != null && next.startsWith(queryTerm)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A written job in the form every cached query is checked against, normalised and tokenized once per write
+     */
+    private static final class ChangedJob {
+        final String jobType;
+        final String experienceLevel;
+        final String location;
+        final String[] searchFields;
+        final NavigableSet<String> terms = new TreeSet<>();
+
+        ChangedJob(JobDocument document) {
+            this.jobType = document.getJobType() != null ? document.getJobType().trim() : "";
+            this.experienceLevel = document.getExperienceLevel() != null ? document.getExperienceLevel().trim() : "";
+            this.location = normalize(document.getLocation());
+            String[] fields = {document.getTitle(), document.getDescription(), document.getCompany(), document.getLocation()};
+            this.searchFields = new String[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                searchFields[i] = normalize(fields[i]);
+                terms.addAll(JobTokenizer.tokenize(fields[i]));
+            }
+        }
+    }
+}
@@ -42,6 +42,22 @@ public class AuthController {
         }
     }
     
+    /**
+     * Revoke every token of the current user, including the one sent with this request
+     */
+    @PostMapping("/logout")
+    @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER') or hasAuthority('ROLE_JOB_PROVIDER')")
+    public ResponseEntity<Map<String, String>> logout() {
+        try {
+            authService.logout();
+            Map<String, String> response = new HashMap<>();
+            response.put("message", "Signed out");
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+    
     @GetMapping("/me")
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER') or hasAuthority('ROLE_JOB_PROVIDER')")
     public ResponseEntity<Map<String, Object>> getCurrentUser() {
@@ -1,14 +1,22 @@
 package com.example.jobportal.controller;
 
 import com.example.jobportal.dto.CreateJobRequest;
+import com.example.jobportal.dto.CursorPage;
+import com.example.jobportal.dto.FacetedSearchResponse;
+import com.example.jobportal.dto.JobQueryRequest;
 import com.example.jobportal.dto.JobResponse;
+import com.example.jobportal.dto.JobSummary;
+import com.example.jobportal.dto.PageResponse;
+import com.example.jobportal.dto.SuggestionResponse;
 import com.example.jobportal.dto.UpdateJobRequest;
 import com.example.jobportal.service.JobService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +27,8 @@ import java.util.Map;
 @RequestMapping("/api/jobs")
 public class JobController {
     
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
     @Autowired
     private JobService jobService;
     
@@ -92,10 +102,46 @@ public class JobController {
     
     // Public APIs (accessible to all users and job seekers)
     
+    /**
+     * One page of active jobs, newest first, as a plain list; the token for the next page is sent in the
+     * {@value #NEXT_CURSOR_HEADER} header. Kept for existing clients, new ones should use /public/feed.
+     */
+    @Deprecated
     @GetMapping("/public/all")
-    public ResponseEntity<List<JobResponse>> getAllActiveJobs() {
-        List<JobResponse> jobs = jobService.getActiveJobs();
-        return ResponseEntity.ok(jobs);
+    public ResponseEntity<List<JobSummary>> getAllActiveJobs(@RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<JobSummary> jobs = jobService.getActiveJobsPage(cursor, size);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (jobs.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, jobs.getNextCursor());
+            }
+            return response.body(jobs.getContent());
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+    
+    /**
+     * Every active job as newline-delimited JSON, streamed as it is read, for bulk consumers
+     */
+    @GetMapping(value = "/public/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportActiveJobs() {
+        StreamingResponseBody body = jobService::exportActiveJobs;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
+    @GetMapping("/public/feed")
+    public ResponseEntity<CursorPage<JobSummary>> getActiveJobsPage(@RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<JobSummary> jobs = jobService.getActiveJobsPage(cursor, size);
+            return ResponseEntity.ok(jobs);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
     }
     
     @GetMapping("/public/{jobId}")
@@ -109,26 +155,84 @@ public class JobController {
     }
     
     @GetMapping("/public/search")
-    public ResponseEntity<List<JobResponse>> searchJobs(@RequestParam String keyword) {
-        List<JobResponse> jobs = jobService.searchJobs(keyword);
+    public ResponseEntity<List<JobResponse>> searchJobs(@RequestParam String keyword,
+                                                        @RequestParam(defaultValue = "false") boolean ranked,
+                                                        @RequestParam(defaultValue = "false") boolean fuzzy,
+                                                        @RequestParam(defaultValue = "20") int limit) {
+        List<JobResponse> jobs;
+        if (ranked) {
+            jobs = jobService.searchJobsRanked(keyword, limit, fuzzy);
+        } else if (fuzzy) {
+            jobs = jobService.searchJobsFuzzy(keyword);
+        } else {
+            jobs = jobService.searchJobs(keyword);
+        }
         return ResponseEntity.ok(jobs);
     }
     
+    @GetMapping("/public/query")
+    public ResponseEntity<PageResponse<JobResponse>> queryJobs(@ModelAttribute JobQueryRequest request) {
+        try {
+            PageResponse<JobResponse> jobs = jobService.queryJobs(request);
+            return ResponseEntity.ok(jobs);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+    
+    @GetMapping("/public/salary")
+    public ResponseEntity<PageResponse<JobResponse>> searchJobsBySalary(@ModelAttribute JobQueryRequest request) {
+        try {
+            PageResponse<JobResponse> jobs = jobService.searchJobsBySalary(request);
+            return ResponseEntity.ok(jobs);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+    
+    @GetMapping("/public/search/facets")
+    public ResponseEntity<FacetedSearchResponse> searchJobsWithFacets(@RequestParam(required = false) String keyword,
+                                                                      @RequestParam(defaultValue = "50") int limit) {
+        FacetedSearchResponse response = jobService.searchJobsWithFacets(keyword, limit);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/public/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggest(@RequestParam String prefix,
+                                                            @RequestParam(defaultValue = "10") int limit) {
+        List<SuggestionResponse> suggestions = jobService.suggest(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+    
+    @GetMapping("/public/nearby")
+    public ResponseEntity<List<JobResponse>> searchJobsNearby(@RequestParam(required = false) String location,
+                                                              @RequestParam(required = false) Double latitude,
+                                                              @RequestParam(required = false) Double longitude,
+                                                              @RequestParam(defaultValue = "25") double radiusKm,
+                                                              @RequestParam(defaultValue = "50") int limit) {
+        try {
+            List<JobResponse> jobs = jobService.searchJobsNearby(location, latitude, longitude, radiusKm, limit);
+            return ResponseEntity.ok(jobs);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+    
     @GetMapping("/public/location")
-    public ResponseEntity<List<JobResponse>> getJobsByLocation(@RequestParam String location) {
-        List<JobResponse> jobs = jobService.getJobsByLocation(location);
+    public ResponseEntity<List<JobSummary>> getJobsByLocation(@RequestParam String location) {
+        List<JobSummary> jobs = jobService.getJobsByLocation(location);
         return ResponseEntity.ok(jobs);
     }
     
     @GetMapping("/public/type")
-    public ResponseEntity<List<JobResponse>> getJobsByType(@RequestParam String jobType) {
-        List<JobResponse> jobs = jobService.getJobsByType(jobType);
+    public ResponseEntity<List<JobSummary>> getJobsByType(@RequestParam String jobType) {
+        List<JobSummary> jobs = jobService.getJobsByType(jobType);
         return ResponseEntity.ok(jobs);
     }
     
     @GetMapping("/public/experience")
-    public ResponseEntity<List<JobResponse>> getJobsByExperienceLevel(@RequestParam String experienceLevel) {
-        List<JobResponse> jobs = jobService.getJobsByExperienceLevel(experienceLevel);
+    public ResponseEntity<List<JobSummary>> getJobsByExperienceLevel(@RequestParam String experienceLevel) {
+        List<JobSummary> jobs = jobService.getJobsByExperienceLevel(experienceLevel);
         return ResponseEntity.ok(jobs);
     }
 }
\ No newline at end of file
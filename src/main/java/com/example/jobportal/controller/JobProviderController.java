@@ -1,6 +1,8 @@
 package com.example.jobportal.controller;
 
+import com.example.jobportal.dto.CursorPage;
 import com.example.jobportal.dto.JobApplicationResponse;
+import com.example.jobportal.dto.ProviderDashboardResponse;
 import com.example.jobportal.dto.UpdateApplicationStatusRequest;
 import com.example.jobportal.model.ApplicationStatus;
 import com.example.jobportal.service.JobProviderApplicationService;
@@ -80,6 +82,43 @@ public class JobProviderController {
         }
     }
     
+    /**
+     * One page of applications for jobs posted by the current provider, newest first
+     */
+    @GetMapping("/applications/page")
+    @PreAuthorize("hasAuthority('ROLE_JOB_PROVIDER')")
+    public ResponseEntity<CursorPage<JobApplicationResponse>> getApplicationsForMyJobsPage(
+            @RequestParam(required = false) List<ApplicationStatus> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<JobApplicationResponse> applications =
+                jobProviderApplicationService.getApplicationsForMyJobsPage(status, cursor, size);
+            return ResponseEntity.ok(applications);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+    
+    /**
+     * One page of applications for a specific job, newest first
+     */
+    @GetMapping("/jobs/{jobId}/applications/page")
+    @PreAuthorize("hasAuthority('ROLE_JOB_PROVIDER')")
+    public ResponseEntity<CursorPage<JobApplicationResponse>> getApplicationsForJobPage(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) List<ApplicationStatus> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<JobApplicationResponse> applications =
+                jobProviderApplicationService.getApplicationsForJobPage(jobId, status, cursor, size);
+            return ResponseEntity.ok(applications);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+    
     /**
      * Update application status (review, accept, reject)
      */
@@ -110,4 +149,18 @@ public class JobProviderController {
             throw new RuntimeException(e.getMessage());
         }
     }
+    
+    /**
+     * Application totals by status and by job, plus the active job count
+     */
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasAuthority('ROLE_JOB_PROVIDER')")
+    public ResponseEntity<ProviderDashboardResponse> getDashboard() {
+        try {
+            ProviderDashboardResponse dashboard = jobProviderApplicationService.getDashboard();
+            return ResponseEntity.ok(dashboard);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package com.example.jobportal.controller;
 
+import com.example.jobportal.dto.CursorPage;
 import com.example.jobportal.dto.JobApplicationRequest;
 import com.example.jobportal.dto.JobApplicationResponse;
+import com.example.jobportal.dto.SeekerDashboardResponse;
 import com.example.jobportal.model.ApplicationStatus;
 import com.example.jobportal.service.JobApplicationService;
 import jakarta.validation.Valid;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -46,6 +49,20 @@ public class JobSeekerController {
         }
     }
     
+    @GetMapping("/applications/page")
+    @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
+    public ResponseEntity<CursorPage<JobApplicationResponse>> getMyApplicationsPage(
+            @RequestParam(required = false) List<ApplicationStatus> status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<JobApplicationResponse> applications = jobApplicationService.getMyApplicationsPage(status, cursor, size);
+            return ResponseEntity.ok(applications);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+    
     @GetMapping("/applications/status/{status}")
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<List<JobApplicationResponse>> getMyApplicationsByStatus(@PathVariable ApplicationStatus status) {
@@ -130,28 +147,48 @@ public class JobSeekerController {
         }
     }
     
+    /**
+     * Which of the given jobs (e.g. the cards of one listing page) the current user has applied to
+     */
+    @GetMapping("/jobs/applied")
+    @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
+    public ResponseEntity<Set<Long>> getAppliedJobIds(@RequestParam List<Long> jobIds) {
+        try {
+            Set<Long> appliedJobIds = jobApplicationService.getAppliedJobIds(jobIds);
+            return ResponseEntity.ok(appliedJobIds);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+    
     // Dashboard/Statistics APIs
     
+    /**
+     * Counts by status and the 10 latest applications in one response, so the dashboard needs a single call
+     */
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
+    public ResponseEntity<SeekerDashboardResponse> getDashboard() {
+        try {
+            SeekerDashboardResponse dashboard = jobApplicationService.getDashboard();
+            return ResponseEntity.ok(dashboard);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(e.getMessage());
+        }
+    }
+    
     @GetMapping("/dashboard/stats")
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<Map<String, Object>> getDashboardStats() {
         try {
+            SeekerDashboardResponse dashboard = jobApplicationService.getDashboard();
             Map<String, Object> stats = new HashMap<>();
             
-            // Get total applications count
-            Long totalApplications = jobApplicationService.getMyApplicationsCount();
-            stats.put("totalApplications", totalApplications);
-            
-            // Get count by status
-            Map<String, Long> statusCounts = new HashMap<>();
-            for (ApplicationStatus status : ApplicationStatus.values()) {
-                Long count = jobApplicationService.getMyApplicationsCountByStatus(status);
-                statusCounts.put(status.name().toLowerCase(), count);
-            }
-            stats.put("applicationsByStatus", statusCounts);
+            stats.put("totalApplications", dashboard.getTotalApplications());
+            stats.put("applicationsByStatus", dashboard.getApplicationsByStatus());
             
             // Get recent applications (last 5)
-            List<JobApplicationResponse> recentApplications = jobApplicationService.getRecentApplications();
+            List<JobApplicationResponse> recentApplications = dashboard.getRecentApplications();
             stats.put("recentApplications", recentApplications.subList(0, Math.min(5, recentApplications.size())));
             
             return ResponseEntity.ok(stats);
@@ -0,0 +1,37 @@
+package com.example.jobportal.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class FacetedSearchResponse {
+    
+    private List<JobResponse> jobs;
+    
+    // facet name (jobType, experienceLevel, location) -> value -> number of matching jobs
+    private Map<String, Map<String, Long>> facets;
+    
+    // Constructors
+    public FacetedSearchResponse() {}
+    
+    public FacetedSearchResponse(List<JobResponse> jobs, Map<String, Map<String, Long>> facets) {
+        this.jobs = jobs;
+        this.facets = facets;
+    }
+    
+    // Getters and Setters
+    public List<JobResponse> getJobs() {
+        return jobs;
+    }
+    
+    public void setJobs(List<JobResponse> jobs) {
+        this.jobs = jobs;
+    }
+    
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+    
+    public void setFacets(Map<String, Map<String, Long>> facets) {
+        this.facets = facets;
+    }
+}
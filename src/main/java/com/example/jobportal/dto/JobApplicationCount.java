@@ -0,0 +1,51 @@
+package com.example.jobportal.dto;
+
+public class JobApplicationCount {
+    
+    private Long jobId;
+    private String title;
+    private boolean active;
+    private long applications;
+    
+    // Constructors
+    public JobApplicationCount() {}
+    
+    public JobApplicationCount(Long jobId, String title, boolean active) {
+        this.jobId = jobId;
+        this.title = title;
+        this.active = active;
+    }
+    
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+    
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public boolean isActive() {
+        return active;
+    }
+    
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+    
+    public long getApplications() {
+        return applications;
+    }
+    
+    public void setApplications(long applications) {
+        this.applications = applications;
+    }
+}
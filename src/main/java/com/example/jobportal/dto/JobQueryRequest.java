@@ -0,0 +1,110 @@
+package com.example.jobportal.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Query parameters of /api/jobs/public/query; every criterion is optional
+ */
+public class JobQueryRequest {
+    
+    private String keyword;
+    private String location;
+    private String jobType;
+    private String experienceLevel;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAfter;
+    
+    private String sort = "newest"; // newest, oldest, salary_asc, salary_desc
+    private int page = 0;
+    private int size = 20;
+    
+    // Constructors
+    public JobQueryRequest() {}
+    
+    // Getters and Setters
+    public String getKeyword() {
+        return keyword;
+    }
+    
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+    
+    public String getLocation() {
+        return location;
+    }
+    
+    public void setLocation(String location) {
+        this.location = location;
+    }
+    
+    public String getJobType() {
+        return jobType;
+    }
+    
+    public void setJobType(String jobType) {
+        this.jobType = jobType;
+    }
+    
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+    
+    public void setExperienceLevel(String experienceLevel) {
+        this.experienceLevel = experienceLevel;
+    }
+    
+    public BigDecimal getMinSalary() {
+        return minSalary;
+    }
+    
+    public void setMinSalary(BigDecimal minSalary) {
+        this.minSalary = minSalary;
+    }
+    
+    public BigDecimal getMaxSalary() {
+        return maxSalary;
+    }
+    
+    public void setMaxSalary(BigDecimal maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+    
+    public LocalDateTime getCreatedAfter() {
+        return createdAfter;
+    }
+    
+    public void setCreatedAfter(LocalDateTime createdAfter) {
+        this.createdAfter = createdAfter;
+    }
+    
+    public String getSort() {
+        return sort;
+    }
+    
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+    
+    public int getPage() {
+        return page;
+    }
+    
+    public void setPage(int page) {
+        this.page = page;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
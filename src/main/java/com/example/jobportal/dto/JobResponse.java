@@ -24,6 +24,12 @@ public class JobResponse {
     private String createdByName;
     private String createdByEmail;
     
+    // Relevance score, only set by ranked search
+    private Double score;
+    
+    // Distance from the search centre, only set by nearby search
+    private Double distanceKm;
+    
     // Constructors
     public JobResponse() {}
     
@@ -159,4 +165,20 @@ public class JobResponse {
     public void setCreatedByEmail(String createdByEmail) {
         this.createdByEmail = createdByEmail;
     }
+    
+    public Double getScore() {
+        return score;
+    }
+    
+    public void setScore(Double score) {
+        this.score = score;
+    }
+    
+    public Double getDistanceKm() {
+        return distanceKm;
+    }
+    
+    public void setDistanceKm(Double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
 }
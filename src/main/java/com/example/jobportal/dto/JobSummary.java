@@ -0,0 +1,114 @@
+package com.example.jobportal.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * The columns a job listing shows, selected straight from the query: no description and no provider entity.
+ * Full detail comes from {@link JobResponse} via the single-job endpoint.
+ */
+public class JobSummary {
+    
+    private Long id;
+    private String title;
+    private String company;
+    private String location;
+    private BigDecimal salary;
+    private String jobType;
+    private String experienceLevel;
+    private LocalDateTime createdAt;
+    private String createdByName;
+    
+    // Constructors
+    public JobSummary() {}
+    
+    // Used by the JPQL constructor expressions in JobRepository
+    public JobSummary(Long id, String title, String company, String location, BigDecimal salary,
+                      String jobType, String experienceLevel, LocalDateTime createdAt,
+                      String createdByFirstName, String createdByLastName) {
+        this.id = id;
+        this.title = title;
+        this.company = company;
+        this.location = location;
+        this.salary = salary;
+        this.jobType = jobType;
+        this.experienceLevel = experienceLevel;
+        this.createdAt = createdAt;
+        if (createdByFirstName != null || createdByLastName != null) {
+            this.createdByName = createdByFirstName + " " + createdByLastName;
+        }
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getCompany() {
+        return company;
+    }
+    
+    public void setCompany(String company) {
+        this.company = company;
+    }
+    
+    public String getLocation() {
+        return location;
+    }
+    
+    public void setLocation(String location) {
+        this.location = location;
+    }
+    
+    public BigDecimal getSalary() {
+        return salary;
+    }
+    
+    public void setSalary(BigDecimal salary) {
+        this.salary = salary;
+    }
+    
+    public String getJobType() {
+        return jobType;
+    }
+    
+    public void setJobType(String jobType) {
+        this.jobType = jobType;
+    }
+    
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+    
+    public void setExperienceLevel(String experienceLevel) {
+        this.experienceLevel = experienceLevel;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public String getCreatedByName() {
+        return createdByName;
+    }
+    
+    public void setCreatedByName(String createdByName) {
+        this.createdByName = createdByName;
+    }
+}
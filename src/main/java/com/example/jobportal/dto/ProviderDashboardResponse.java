@@ -0,0 +1,60 @@
+package com.example.jobportal.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class ProviderDashboardResponse {
+    
+    private long totalApplications;
+    private long activeJobs;
+    
+    // Lower-case status name -> applications in that status, every status present
+    private Map<String, Long> applicationsByStatus;
+    
+    // Every job of the provider, most applications first
+    private List<JobApplicationCount> jobs;
+    
+    // Constructors
+    public ProviderDashboardResponse() {}
+    
+    public ProviderDashboardResponse(long totalApplications, long activeJobs, Map<String, Long> applicationsByStatus,
+                                     List<JobApplicationCount> jobs) {
+        this.totalApplications = totalApplications;
+        this.activeJobs = activeJobs;
+        this.applicationsByStatus = applicationsByStatus;
+        this.jobs = jobs;
+    }
+    
+    // Getters and Setters
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+    
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+    
+    public long getActiveJobs() {
+        return activeJobs;
+    }
+    
+    public void setActiveJobs(long activeJobs) {
+        this.activeJobs = activeJobs;
+    }
+    
+    public Map<String, Long> getApplicationsByStatus() {
+        return applicationsByStatus;
+    }
+    
+    public void setApplicationsByStatus(Map<String, Long> applicationsByStatus) {
+        this.applicationsByStatus = applicationsByStatus;
+    }
+    
+    public List<JobApplicationCount> getJobs() {
+        return jobs;
+    }
+    
+    public void setJobs(List<JobApplicationCount> jobs) {
+        this.jobs = jobs;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.jobportal.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class SeekerDashboardResponse {
+    
+    private long totalApplications;
+    
+    // Lower-case status name -> applications in that status, every status present
+    private Map<String, Long> applicationsByStatus;
+    
+    // Latest applications first, at most 10
+    private List<JobApplicationResponse> recentApplications;
+    
+    // Constructors
+    public SeekerDashboardResponse() {}
+    
+    public SeekerDashboardResponse(long totalApplications, Map<String, Long> applicationsByStatus,
+                                   List<JobApplicationResponse> recentApplications) {
+        this.totalApplications = totalApplications;
+        this.applicationsByStatus = applicationsByStatus;
+        this.recentApplications = recentApplications;
+    }
+    
+    // Getters and Setters
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+    
+    public void setTotalApplications(long totalApplications) {
+        this.totalApplications = totalApplications;
+    }
+    
+    public Map<String, Long> getApplicationsByStatus() {
+        return applicationsByStatus;
+    }
+    
+    public void setApplicationsByStatus(Map<String, Long> applicationsByStatus) {
+        this.applicationsByStatus = applicationsByStatus;
+    }
+    
+    public List<JobApplicationResponse> getRecentApplications() {
+        return recentApplications;
+    }
+    
+    public void setRecentApplications(List<JobApplicationResponse> recentApplications) {
+        this.recentApplications = recentApplications;
+    }
+}
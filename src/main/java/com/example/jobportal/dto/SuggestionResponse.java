@@ -0,0 +1,42 @@
+package com.example.jobportal.dto;
+
+public class SuggestionResponse {
+    
+    private String text;
+    private String field; // title, company or location
+    private long count;   // active jobs with this value
+    
+    // Constructors
+    public SuggestionResponse() {}
+    
+    public SuggestionResponse(String text, String field, long count) {
+        this.text = text;
+        this.field = field;
+        this.count = count;
+    }
+    
+    // Getters and Setters
+    public String getText() {
+        return text;
+    }
+    
+    public void setText(String text) {
+        this.text = text;
+    }
+    
+    public String getField() {
+        return field;
+    }
+    
+    public void setField(String field) {
+        this.field = field;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
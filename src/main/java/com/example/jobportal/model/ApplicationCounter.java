@@ -0,0 +1,73 @@
+package com.example.jobportal.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Number of applications in one status for one job, job provider or job seeker.
+ * Maintained alongside every application write; see ApplicationCounterService.
+ */
+@Entity
+@Table(name = "application_counters", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_application_counters_key", columnNames = {"scope", "owner_id", "status"})
+})
+public class ApplicationCounter {
+    
+    public enum Scope {
+        JOB,        // owner is the job
+        PROVIDER,   // owner is the user who posted the job
+        APPLICANT   // owner is the job seeker who applied
+    }
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Scope scope;
+    
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private ApplicationStatus status;
+    
+    @Column(name = "application_count", nullable = false)
+    private long count;
+    
+    // Constructors
+    public ApplicationCounter() {}
+    
+    public ApplicationCounter(Scope scope, Long ownerId, ApplicationStatus status, long count) {
+        this.scope = scope;
+        this.ownerId = ownerId;
+        this.status = status;
+        this.count = count;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public Scope getScope() {
+        return scope;
+    }
+    
+    public Long getOwnerId() {
+        return ownerId;
+    }
+    
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
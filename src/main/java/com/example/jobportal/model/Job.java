@@ -10,7 +10,15 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+    @Index(name = "idx_jobs_active_created_id", columnList = "is_active, created_at, id"),
+    @Index(name = "idx_jobs_active_type", columnList = "is_active, job_type, created_at"),
+    @Index(name = "idx_jobs_active_level", columnList = "is_active, experience_level, created_at"),
+    @Index(name = "idx_jobs_active_salary", columnList = "is_active, salary"),
+    @Index(name = "idx_jobs_created", columnList = "created_at"),
+    @Index(name = "idx_jobs_updated", columnList = "updated_at"),
+    @Index(name = "idx_jobs_geocoded", columnList = "geocoded_at")
+})
 public class Job {
     
     @Id
@@ -57,6 +65,15 @@ public class Job {
     @Column(name = "is_active")
     private Boolean isActive = true;
     
+    // Coordinates of the location, geocoded from the bundled gazetteer when the job is saved
+    private Double latitude;
+    
+    private Double longitude;
+    
+    // When the location was last geocoded, found or not; null for jobs saved before coordinates were stored
+    @Column(name = "geocoded_at")
+    private LocalDateTime geocodedAt;
+    
     // Constructors
     public Job() {
         this.createdAt = LocalDateTime.now();
@@ -168,6 +185,30 @@ public class Job {
         this.isActive = isActive;
     }
     
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
+    public LocalDateTime getGeocodedAt() {
+        return geocodedAt;
+    }
+    
+    public void setGeocodedAt(LocalDateTime geocodedAt) {
+        this.geocodedAt = geocodedAt;
+    }
+    
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
@@ -6,9 +6,18 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications", uniqueConstraints = {
+    @UniqueConstraint(name = JobApplication.UK_JOB_APPLICANT, columnNames = {"job_id", "applicant_id"})
+}, indexes = {
+    @Index(name = "idx_applications_applicant_applied", columnList = "applicant_id, applied_at, id"),
+    @Index(name = "idx_applications_job_applied", columnList = "job_id, applied_at, id"),
+    @Index(name = "idx_applications_applicant_job", columnList = "applicant_id, job_id")
+})
 public class JobApplication {
     
+    // One application per job and applicant; a violation means the applicant already applied
+    public static final String UK_JOB_APPLICANT = "uk_applications_job_applicant";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -37,6 +46,11 @@ public class JobApplication {
     @Column(name = "resume_url")
     private String resumeUrl;
     
+    // Optimistic lock, so two concurrent status changes cannot both apply their counter deltas
+    @Version
+    @Column(nullable = false)
+    private long version;
+    
     // Constructors
     public JobApplication() {
         this.appliedAt = LocalDateTime.now();
@@ -0,0 +1,45 @@
+package com.example.jobportal.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cluster-wide lease on a scheduled task, so only one instance runs it per period; see TaskLeaseService.
+ */
+@Entity
+@Table(name = "task_leases")
+public class TaskLease {
+    
+    @Id
+    @Column(length = 100)
+    private String name;
+    
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+    
+    // Constructors
+    public TaskLease() {}
+    
+    public TaskLease(String name, LocalDateTime lockedUntil) {
+        this.name = name;
+        this.lockedUntil = lockedUntil;
+    }
+    
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+    
+    public void setLockedUntil(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+}
@@ -62,6 +62,10 @@ public class User implements UserDetails {
     @Column(name = "is_active")
     private Boolean isActive = true;
 
+    // Carried in every issued JWT; bumping it revokes the tokens issued before
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion = 0;
+
     // Constructors
     public User() {
         this.createdAt = LocalDateTime.now();
@@ -197,6 +201,14 @@ public class User implements UserDetails {
         this.isActive = isActive;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,108 @@
+package com.example.jobportal.repository;
+
+import com.example.jobportal.model.ApplicationCounter;
+import com.example.jobportal.model.ApplicationStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ApplicationCounterRepository extends JpaRepository<ApplicationCounter, Long> {
+    
+    // Add delta to a counter, creating it on first use; a single row-locking statement, so concurrent
+    // writers never lose an update
+    @Modifying
+    @Query(value = "INSERT INTO application_counters (scope, owner_id, status, application_count) " +
+                   "VALUES (:scope, :ownerId, :status, :delta) " +
+                   "ON DUPLICATE KEY UPDATE application_count = application_count + :delta",
+           nativeQuery = true)
+    void add(@Param("scope") String scope, @Param("ownerId") Long ownerId,
+             @Param("status") String status, @Param("delta") long delta);
+    
+    // Add delta to the job, provider and applicant counters of one status in one statement
+    @Modifying
+    @Query(value = "INSERT INTO application_counters (scope, owner_id, status, application_count) " +
+                   "VALUES ('JOB', :jobId, :status, :delta), ('PROVIDER', :providerId, :status, :delta), " +
+                   "('APPLICANT', :applicantId, :status, :delta) " +
+                   "ON DUPLICATE KEY UPDATE application_count = application_count + :delta",
+           nativeQuery = true)
+    void addAll(@Param("jobId") Long jobId, @Param("providerId") Long providerId,
+                @Param("applicantId") Long applicantId, @Param("status") String status, @Param("delta") long delta);
+    
+    // Same for two statuses at once (a status change); rows are locked in the order given. The existing row's
+    // status picks its delta, as neither the deprecated VALUES() nor a row alias works on both MySQL and H2
+    @Modifying
+    @Query(value = "INSERT INTO application_counters (scope, owner_id, status, application_count) " +
+                   "VALUES ('JOB', :jobId, :first, :firstDelta), ('JOB', :jobId, :second, :secondDelta), " +
+                   "('PROVIDER', :providerId, :first, :firstDelta), ('PROVIDER', :providerId, :second, :secondDelta), " +
+                   "('APPLICANT', :applicantId, :first, :firstDelta), ('APPLICANT', :applicantId, :second, :secondDelta) " +
+                   "ON DUPLICATE KEY UPDATE application_count = application_count + " +
+                   "CASE WHEN status = :first THEN :firstDelta ELSE :secondDelta END",
+           nativeQuery = true)
+    void addAll(@Param("jobId") Long jobId, @Param("providerId") Long providerId,
+                @Param("applicantId") Long applicantId,
+                @Param("first") String first, @Param("firstDelta") long firstDelta,
+                @Param("second") String second, @Param("secondDelta") long secondDelta);
+    
+    // Create a counter at an absolute count unless a writer created it first (used by the reconciliation);
+    // returns 0 when the row already existed
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO application_counters (scope, owner_id, status, application_count) " +
+                   "VALUES (:scope, :ownerId, :status, :count)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("scope") String scope, @Param("ownerId") Long ownerId,
+                       @Param("status") String status, @Param("count") long count);
+    
+    // Overwrite a counter only if nobody changed it since it was read (used by the reconciliation)
+    @Modifying
+    @Query("UPDATE ApplicationCounter c SET c.count = :count WHERE c.id = :id AND c.count = :expected")
+    int compareAndSet(@Param("id") Long id, @Param("expected") long expected, @Param("count") long count);
+    
+    // Count for one owner and status, 0 when the counter does not exist yet
+    @Query("SELECT COALESCE(SUM(c.count), 0) FROM ApplicationCounter c " +
+           "WHERE c.scope = :scope AND c.ownerId = :ownerId AND c.status = :status")
+    long countOf(@Param("scope") ApplicationCounter.Scope scope, @Param("ownerId") Long ownerId,
+                 @Param("status") ApplicationStatus status);
+    
+    // Count for one owner over all statuses
+    @Query("SELECT COALESCE(SUM(c.count), 0) FROM ApplicationCounter c " +
+           "WHERE c.scope = :scope AND c.ownerId = :ownerId")
+    long totalOf(@Param("scope") ApplicationCounter.Scope scope, @Param("ownerId") Long ownerId);
+    
+    // Every status counter of one owner
+    List<ApplicationCounter> findByScopeAndOwnerId(ApplicationCounter.Scope scope, Long ownerId);
+    
+    // Counters of one scope for owners in (after, upTo], the slice one reconciliation page compares
+    List<ApplicationCounter> findByScopeAndOwnerIdGreaterThanAndOwnerIdLessThanEqual(
+            ApplicationCounter.Scope scope, Long after, Long upTo);
+    
+    // What the counters should hold, recomputed from job_applications by the reconciliation one page of owners at a time
+    @Query("SELECT ja.job.id AS ownerId, ja.status AS status, COUNT(ja) AS count " +
+           "FROM JobApplication ja WHERE ja.job.id > :after " +
+           "GROUP BY ja.job.id, ja.status ORDER BY ja.job.id, ja.status")
+    List<Tally> tallyByJob(@Param("after") Long after, Limit limit);
+    
+    @Query("SELECT j.createdBy.id AS ownerId, ja.status AS status, COUNT(ja) AS count " +
+           "FROM JobApplication ja JOIN ja.job j WHERE j.createdBy.id > :after " +
+           "GROUP BY j.createdBy.id, ja.status ORDER BY j.createdBy.id, ja.status")
+    List<Tally> tallyByProvider(@Param("after") Long after, Limit limit);
+    
+    @Query("SELECT ja.applicant.id AS ownerId, ja.status AS status, COUNT(ja) AS count " +
+           "FROM JobApplication ja WHERE ja.applicant.id > :after " +
+           "GROUP BY ja.applicant.id, ja.status ORDER BY ja.applicant.id, ja.status")
+    List<Tally> tallyByApplicant(@Param("after") Long after, Limit limit);
+    
+    interface Tally {
+        
+        Long getOwnerId();
+        
+        ApplicationStatus getStatus();
+        
+        long getCount();
+    }
+}
@@ -4,34 +4,96 @@ import com.example.jobportal.model.ApplicationStatus;
 import com.example.jobportal.model.Job;
 import com.example.jobportal.model.JobApplication;
 import com.example.jobportal.model.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
     
+    // List queries fetch job and applicant in the same statement, since JobApplicationResponse reads both
+    
     // Find all applications by applicant (job seeker)
+    @EntityGraph(attributePaths = {"job", "applicant"})
     List<JobApplication> findByApplicantOrderByAppliedAtDesc(User applicant);
     
     // Find all applications by job (for job providers to see who applied)
+    @EntityGraph(attributePaths = {"job", "applicant"})
     List<JobApplication> findByJobOrderByAppliedAtDesc(Job job);
     
     // Find applications by job provider (all applications for jobs created by a specific user)
+    @EntityGraph(attributePaths = {"job", "applicant"})
     @Query("SELECT ja FROM JobApplication ja WHERE ja.job.createdBy = :jobProvider ORDER BY ja.appliedAt DESC")
     List<JobApplication> findByJobProviderOrderByAppliedAtDesc(@Param("jobProvider") User jobProvider);
     
+    // Keyset pages ordered by (appliedAt, id) DESC, filtered to the given statuses, with job and applicant
+    // fetched in the same query: first page, then the rows after a cursor
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.job j JOIN FETCH ja.applicant " +
+           "WHERE ja.applicant = :applicant AND ja.status IN :statuses " +
+           "ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<JobApplication> findPageByApplicant(@Param("applicant") User applicant,
+                                             @Param("statuses") Collection<ApplicationStatus> statuses, Limit limit);
+    
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.job j JOIN FETCH ja.applicant " +
+           "WHERE ja.applicant = :applicant AND ja.status IN :statuses " +
+           "AND (ja.appliedAt < :appliedAt OR (ja.appliedAt = :appliedAt AND ja.id < :id)) " +
+           "ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<JobApplication> findPageByApplicantAfter(@Param("applicant") User applicant,
+                                                  @Param("statuses") Collection<ApplicationStatus> statuses,
+                                                  @Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id,
+                                                  Limit limit);
+    
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.job j JOIN FETCH ja.applicant " +
+           "WHERE ja.job = :job AND ja.status IN :statuses " +
+           "ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<JobApplication> findPageByJob(@Param("job") Job job,
+                                       @Param("statuses") Collection<ApplicationStatus> statuses, Limit limit);
+    
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.job j JOIN FETCH ja.applicant " +
+           "WHERE ja.job = :job AND ja.status IN :statuses " +
+           "AND (ja.appliedAt < :appliedAt OR (ja.appliedAt = :appliedAt AND ja.id < :id)) " +
+           "ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<JobApplication> findPageByJobAfter(@Param("job") Job job,
+                                            @Param("statuses") Collection<ApplicationStatus> statuses,
+                                            @Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id,
+                                            Limit limit);
+    
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.job j JOIN FETCH ja.applicant " +
+           "WHERE j.createdBy = :jobProvider AND ja.status IN :statuses " +
+           "ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<JobApplication> findPageByJobProvider(@Param("jobProvider") User jobProvider,
+                                               @Param("statuses") Collection<ApplicationStatus> statuses, Limit limit);
+    
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.job j JOIN FETCH ja.applicant " +
+           "WHERE j.createdBy = :jobProvider AND ja.status IN :statuses " +
+           "AND (ja.appliedAt < :appliedAt OR (ja.appliedAt = :appliedAt AND ja.id < :id)) " +
+           "ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<JobApplication> findPageByJobProviderAfter(@Param("jobProvider") User jobProvider,
+                                                    @Param("statuses") Collection<ApplicationStatus> statuses,
+                                                    @Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id,
+                                                    Limit limit);
+    
     // Check if user already applied to a job
     Optional<JobApplication> findByJobAndApplicant(Job job, User applicant);
     
+    // Which of the given jobs a user applied to; an index-only lookup on (applicant_id, job_id)
+    @Query("SELECT ja.job.id FROM JobApplication ja WHERE ja.applicant = :applicant AND ja.job.id IN :jobIds")
+    List<Long> findAppliedJobIds(@Param("applicant") User applicant, @Param("jobIds") Collection<Long> jobIds);
+    
     // Find applications by status for a job seeker
+    @EntityGraph(attributePaths = {"job", "applicant"})
     List<JobApplication> findByApplicantAndStatusOrderByAppliedAtDesc(User applicant, ApplicationStatus status);
     
     // Find applications by status for a job provider
+    @EntityGraph(attributePaths = {"job", "applicant"})
     @Query("SELECT ja FROM JobApplication ja WHERE ja.job.createdBy = :jobProvider AND ja.status = :status ORDER BY ja.appliedAt DESC")
     List<JobApplication> findByJobProviderAndStatusOrderByAppliedAtDesc(@Param("jobProvider") User jobProvider, @Param("status") ApplicationStatus status);
     
@@ -44,14 +106,27 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     // Count applications by status for a job seeker
     long countByApplicantAndStatus(User applicant, ApplicationStatus status);
     
+    // Count applications for a job provider
+    @Query("SELECT COUNT(ja) FROM JobApplication ja WHERE ja.job.createdBy = :jobProvider")
+    long countByJobProvider(@Param("jobProvider") User jobProvider);
+    
+    // Application counts per job and status for a job provider's dashboard, jobs without applications included
+    @Query("SELECT j.id AS jobId, j.title AS title, j.isActive AS active, ja.status AS status, COUNT(ja.id) AS applications " +
+           "FROM Job j LEFT JOIN JobApplication ja ON ja.job = j " +
+           "WHERE j.createdBy = :jobProvider " +
+           "GROUP BY j.id, j.title, j.isActive, ja.status")
+    List<JobStatusCount> countByJobAndStatusForJobProvider(@Param("jobProvider") User jobProvider);
+    
     // Count applications by status for a job provider
     @Query("SELECT COUNT(ja) FROM JobApplication ja WHERE ja.job.createdBy = :jobProvider AND ja.status = :status")
     long countByJobProviderAndStatus(@Param("jobProvider") User jobProvider, @Param("status") ApplicationStatus status);
     
     // Get recent applications for a job seeker
+    @EntityGraph(attributePaths = {"job", "applicant"})
     List<JobApplication> findTop10ByApplicantOrderByAppliedAtDesc(User applicant);
     
     // Get recent applications for a job provider
+    @EntityGraph(attributePaths = {"job", "applicant"})
     @Query("SELECT ja FROM JobApplication ja WHERE ja.job.createdBy = :jobProvider ORDER BY ja.appliedAt DESC LIMIT 10")
     List<JobApplication> findTop10ByJobProviderOrderByAppliedAtDesc(@Param("jobProvider") User jobProvider);
 }
@@ -1,20 +1,69 @@
 package com.example.jobportal.repository;
 
+import com.example.jobportal.dto.JobSummary;
 import com.example.jobportal.model.Job;
 import com.example.jobportal.model.User;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
     
     List<Job> findByIsActiveTrueOrderByCreatedAtDesc();
     
+    // Listing columns only: no description, and the provider's name joined in rather than loaded as an entity
+    String SELECT_SUMMARY = "SELECT new com.example.jobportal.dto.JobSummary(j.id, j.title, j.company, j.location, " +
+                            "j.salary, j.jobType, j.experienceLevel, j.createdAt, u.firstName, u.lastName) " +
+                            "FROM Job j LEFT JOIN j.createdBy u ";
+    
+    @Query(SELECT_SUMMARY + "WHERE j.isActive = true ORDER BY j.createdAt DESC")
+    List<JobSummary> findActiveSummaries();
+    
+    // Pattern from JobSpecifications.containsPattern, so wildcards typed into the location match literally
+    @Query(SELECT_SUMMARY + "WHERE j.isActive = true AND LOWER(j.location) LIKE :pattern ESCAPE '\\' " +
+           "ORDER BY j.createdAt DESC")
+    List<JobSummary> findActiveSummariesByLocation(@Param("pattern") String pattern);
+    
+    @Query(SELECT_SUMMARY + "WHERE j.isActive = true AND j.jobType = :jobType ORDER BY j.createdAt DESC")
+    List<JobSummary> findActiveSummariesByJobType(@Param("jobType") String jobType);
+    
+    @Query(SELECT_SUMMARY + "WHERE j.isActive = true AND j.experienceLevel = :experienceLevel ORDER BY j.createdAt DESC")
+    List<JobSummary> findActiveSummariesByExperienceLevel(@Param("experienceLevel") String experienceLevel);
+    
+    // Keyset pagination over idx_jobs_active_created_id: first page, then the rows after a (createdAt, id) cursor
+    @Query(SELECT_SUMMARY + "WHERE j.isActive = true ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findActiveSummariesFirstPage(Limit limit);
+    
+    @Query(SELECT_SUMMARY + "WHERE j.isActive = true AND " +
+           "(j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id)) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobSummary> findActiveSummariesAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                              Limit limit);
+    
+    // Every active job in id order, read through a cursor for the NDJSON export; must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT j FROM Job j JOIN FETCH j.createdBy WHERE j.isActive = true ORDER BY j.id")
+    Stream<Job> streamActiveJobs();
+    
     List<Job> findByCreatedByAndIsActiveTrueOrderByCreatedAtDesc(User createdBy);
     
     List<Job> findByCreatedByOrderByCreatedAtDesc(User createdBy);
@@ -26,11 +75,54 @@ public interface JobRepository extends JpaRepository<Job, Long> {
            "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%')))")
     List<Job> searchActiveJobs(@Param("keyword") String keyword);
     
-    List<Job> findByLocationIgnoreCaseContainingAndIsActiveTrueOrderByCreatedAtDesc(String location);
+    // FULLTEXT search over ft_jobs_search (see db/fulltext-index.sql); rows come back most relevant first
+    @Query(value = "SELECT * FROM jobs WHERE is_active = true AND " +
+                   "MATCH(title, description, company, location) AGAINST (:query IN NATURAL LANGUAGE MODE)",
+           nativeQuery = true)
+    List<Job> fullTextSearch(@Param("query") String query);
     
-    List<Job> findByJobTypeAndIsActiveTrueOrderByCreatedAtDesc(String jobType);
-    
-    List<Job> findByExperienceLevelAndIsActiveTrueOrderByCreatedAtDesc(String experienceLevel);
+    // Boolean-mode FULLTEXT search, e.g. "+java* +remote*"; no relevance order, so newest first
+    @Query(value = "SELECT * FROM jobs WHERE is_active = true AND " +
+                   "MATCH(title, description, company, location) AGAINST (:query IN BOOLEAN MODE) " +
+                   "ORDER BY created_at DESC",
+           nativeQuery = true)
+    List<Job> fullTextSearchBoolean(@Param("query") String query);
     
     Long countByCreatedByAndIsActiveTrue(User createdBy);
+    
+    // Jobs created or modified after the given time, active or not, for replay on top of an index snapshot
+    @Query("SELECT j FROM Job j WHERE j.createdAt > :since OR j.updatedAt > :since OR j.geocodedAt > :since")
+    List<Job> findChangedSince(@Param("since") LocalDateTime since);
+    
+    // Latest value of each change column, every MAX read off its own index; the watermark findChangedSince is polled from
+    @Query("SELECT MAX(j.createdAt) AS created, MAX(j.updatedAt) AS updated, MAX(j.geocodedAt) AS geocoded FROM Job j")
+    ChangeTimes findLatestChangeTimes();
+    
+    // Next batch of jobs saved before locations were geocoded, in id order
+    List<Job> findByGeocodedAtIsNullAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
+    // Backfilled coordinates; leaves updated_at alone, a snapshot restore replays the job through geocoded_at
+    @Modifying
+    @Query("UPDATE Job j SET j.latitude = :latitude, j.longitude = :longitude, j.geocodedAt = :at WHERE j.id = :id")
+    int updateCoordinates(@Param("id") Long id, @Param("latitude") Double latitude, @Param("longitude") Double longitude,
+                          @Param("at") LocalDateTime at);
+    
+    // Jobs whose location is not a known place, so the backfill does not try them again
+    @Modifying
+    @Query("UPDATE Job j SET j.geocodedAt = :at WHERE j.id IN :ids")
+    int markGeocoded(@Param("ids") Collection<Long> ids, @Param("at") LocalDateTime at);
+    
+    // Multi-criteria search (see JobSpecifications); fetches the provider with the page instead of once per job
+    @Override
+    @EntityGraph(attributePaths = "createdBy")
+    Page<Job> findAll(Specification<Job> spec, Pageable pageable);
+    
+    interface ChangeTimes {
+        
+        LocalDateTime getCreated();
+        
+        LocalDateTime getUpdated();
+        
+        LocalDateTime getGeocoded();
+    }
 }
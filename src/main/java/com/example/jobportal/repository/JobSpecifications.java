@@ -0,0 +1,70 @@
+package com.example.jobportal.repository;
+
+import com.example.jobportal.model.Job;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Composable filters for {@link JobRepository#findAll(Specification, org.springframework.data.domain.Pageable)}.
+ * Each criterion becomes a predicate in the same SQL statement.
+ */
+public final class JobSpecifications {
+    
+    private static final char LIKE_ESCAPE = '\\';
+    
+    private JobSpecifications() {}
+    
+    public static Specification<Job> isActive() {
+        return (root, query, cb) -> cb.isTrue(root.get("isActive"));
+    }
+    
+    // Same semantics as JobRepository.searchActiveJobs
+    public static Specification<Job> keywordMatches(String keyword) {
+        return (root, query, cb) -> {
+            String pattern = containsPattern(keyword);
+            return cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.get("description")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.get("company")), pattern, LIKE_ESCAPE),
+                    cb.like(cb.lower(root.get("location")), pattern, LIKE_ESCAPE));
+        };
+    }
+    
+    public static Specification<Job> locationContains(String location) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("location")), containsPattern(location), LIKE_ESCAPE);
+    }
+    
+    public static Specification<Job> hasJobType(String jobType) {
+        return (root, query, cb) -> cb.equal(root.get("jobType"), jobType);
+    }
+    
+    public static Specification<Job> hasExperienceLevel(String experienceLevel) {
+        return (root, query, cb) -> cb.equal(root.get("experienceLevel"), experienceLevel);
+    }
+    
+    public static Specification<Job> salaryAtLeast(BigDecimal minSalary) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("salary"), minSalary);
+    }
+    
+    public static Specification<Job> salaryAtMost(BigDecimal maxSalary) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("salary"), maxSalary);
+    }
+    
+    public static Specification<Job> createdAfter(LocalDateTime createdAfter) {
+        return (root, query, cb) -> cb.greaterThan(root.get("createdAt"), createdAfter);
+    }
+    
+    // Lower-cased '%text%' pattern in which %, _ and the escape character match only themselves; also used with JPQL ESCAPE '\'
+    public static String containsPattern(String text) {
+        StringBuilder pattern = new StringBuilder(text.length() + 2).append('%');
+        for (char c : text.toLowerCase().toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
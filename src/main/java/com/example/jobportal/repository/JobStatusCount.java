@@ -0,0 +1,20 @@
+package com.example.jobportal.repository;
+
+import com.example.jobportal.model.ApplicationStatus;
+
+/**
+ * One row of the provider dashboard aggregate: a job and how many of its applications have a status.
+ * A job with no applications comes back once with a null status and a count of 0.
+ */
+public interface JobStatusCount {
+    
+    Long getJobId();
+    
+    String getTitle();
+    
+    Boolean getActive();
+    
+    ApplicationStatus getStatus();
+    
+    long getApplications();
+}
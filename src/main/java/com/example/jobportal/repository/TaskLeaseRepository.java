@@ -0,0 +1,26 @@
+package com.example.jobportal.repository;
+
+import com.example.jobportal.model.TaskLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TaskLeaseRepository extends JpaRepository<TaskLease, String> {
+    
+    // Create the lease row, already expired, on first use; leaves an existing row alone
+    @Modifying
+    @Query(value = "INSERT INTO task_leases (name, locked_until) VALUES (:name, :expired) " +
+                   "ON DUPLICATE KEY UPDATE locked_until = locked_until",
+           nativeQuery = true)
+    void createIfAbsent(@Param("name") String name, @Param("expired") LocalDateTime expired);
+    
+    // Take the lease if it has expired; the row lock lets exactly one concurrent caller get 1
+    @Modifying
+    @Query("UPDATE TaskLease l SET l.lockedUntil = :until WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+}
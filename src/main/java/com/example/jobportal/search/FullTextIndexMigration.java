@@ -0,0 +1,60 @@
+package com.example.jobportal.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Creates the FULLTEXT index used by the fulltext search strategy. Runs after Hibernate's schema
+ * update so the jobs table exists, and only when the index is missing.
+ */
+@Component
+public class FullTextIndexMigration implements ApplicationRunner {
+
+    static final String INDEX_NAME = "ft_jobs_search";
+
+    private static final String SCRIPT = "db/fulltext-index.sql";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${jobportal.search.strategy:index}")
+    private SearchStrategy strategy;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (strategy != SearchStrategy.FULLTEXT) {
+            return;
+        }
+
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'jobs' AND index_name = ?",
+                Integer.class, INDEX_NAME);
+        if (existing != null && existing > 0) {
+            return;
+        }
+
+        jdbcTemplate.execute(readStatement());
+        System.out.println("Created FULLTEXT index " + INDEX_NAME + " on jobs");
+    }
+
+    private static String readStatement() throws IOException {
+        String script = StreamUtils.copyToString(new ClassPathResource(SCRIPT).getInputStream(), StandardCharsets.UTF_8);
+        StringBuilder statement = new StringBuilder();
+        for (String line : script.split("\n")) {
+            if (!line.trim().startsWith("--")) {
+                statement.append(line).append('\n');
+            }
+        }
+        return statement.toString().trim();
+    }
+}
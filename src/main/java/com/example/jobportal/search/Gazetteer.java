@@ -0,0 +1,79 @@
+package com.example.jobportal.search;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Offline place-name lookup backed by the bundled geo/gazetteer.csv, so free-text job locations
+ * can be geocoded at write time without calling an external service.
+ */
+@Component
+public class Gazetteer {
+
+    private static final String RESOURCE = "geo/gazetteer.csv";
+
+    // Separators between the parts of a location, e.g. "San Francisco, CA" or "Pune / Remote"
+    private static final String PART_SEPARATORS = "\\s*(?:[,/;|()]|\\s-\\s)\\s*";
+
+    // Normalised place name or alias -> coordinates
+    private final Map<String, GeoPoint> places = new HashMap<>();
+
+    public Gazetteer() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",", 3);
+                GeoPoint point = new GeoPoint(Double.parseDouble(columns[0]), Double.parseDouble(columns[1]));
+                for (String name : columns[2].split("\\|")) {
+                    places.putIfAbsent(normalize(name), point);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load " + RESOURCE, e);
+        }
+    }
+
+    /**
+     * Coordinates for a location, matching the whole text first and then each of its parts in order;
+     * null when nothing is known
+     */
+    public GeoPoint geocode(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        String text = normalize(location);
+        GeoPoint point = places.get(text);
+        if (point != null) {
+            return point;
+        }
+        for (String part : text.split(PART_SEPARATORS)) {
+            point = places.get(part);
+            if (point != null) {
+                return point;
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return places.size();
+    }
+
+    private static String normalize(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
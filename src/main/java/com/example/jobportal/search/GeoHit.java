@@ -0,0 +1,23 @@
+package com.example.jobportal.search;
+
+/**
+ * A job id with its distance from the centre of a nearby search
+ */
+public class GeoHit {
+
+    private final long jobId;
+    private final double distanceKm;
+
+    public GeoHit(long jobId, double distanceKm) {
+        this.jobId = jobId;
+        this.distanceKm = distanceKm;
+    }
+
+    public long getJobId() {
+        return jobId;
+    }
+
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+}
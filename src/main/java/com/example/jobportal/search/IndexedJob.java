@@ -0,0 +1,121 @@
+package com.example.jobportal.search;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The part of a {@link JobDocument} the indexes are rebuilt from, kept by {@link JobIndexer} for the
+ * next snapshot. The description is only ever tokenized, so it is held as its distinct terms and their
+ * counts rather than as the text; timestamps are not indexed and are not kept.
+ */
+public final class IndexedJob {
+
+    private final long id;
+    private final String title;
+    private final String company;
+    private final String location;
+    private final String jobType;
+    private final String experienceLevel;
+    private final BigDecimal salary;
+    private final Double latitude;
+    private final Double longitude;
+    // Distinct description terms separated by single spaces, in first-occurrence order
+    private final String descriptionTerms;
+    // Occurrences of each of those terms
+    private final short[] descriptionCounts;
+
+    public IndexedJob(long id, String title, String company, String location, String jobType,
+                      String experienceLevel, BigDecimal salary, Double latitude, Double longitude,
+                      String descriptionTerms, short[] descriptionCounts) {
+        this.id = id;
+        this.title = title;
+        this.company = company;
+        this.location = location;
+        this.jobType = jobType;
+        this.experienceLevel = experienceLevel;
+        this.salary = salary;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.descriptionTerms = descriptionTerms;
+        this.descriptionCounts = descriptionCounts;
+    }
+
+    public static IndexedJob of(JobDocument document) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String term : JobTokenizer.tokenize(document.getDescription())) {
+            counts.merge(term, 1, Integer::sum);
+        }
+        short[] descriptionCounts = new short[counts.size()];
+        int i = 0;
+        for (int count : counts.values()) {
+            descriptionCounts[i++] = (short) Math.min(count, Short.MAX_VALUE);
+        }
+        return new IndexedJob(document.getId(), document.getTitle(), document.getCompany(), document.getLocation(),
+                document.getJobType(), document.getExperienceLevel(), document.getSalary(),
+                document.getLatitude(), document.getLongitude(), String.join(" ", counts.keySet()), descriptionCounts);
+    }
+
+    /**
+     * An active document that indexes exactly like the one this was taken from: its description
+     * repeats every term as often as the original did, so term frequencies and lengths are unchanged
+     */
+    public JobDocument toDocument() {
+        StringBuilder description = new StringBuilder();
+        String[] terms = descriptionTerms.isEmpty() ? new String[0] : descriptionTerms.split(" ");
+        for (int i = 0; i < terms.length; i++) {
+            for (int n = 0; n < descriptionCounts[i]; n++) {
+                if (description.length() > 0) {
+                    description.append(' ');
+                }
+                description.append(terms[i]);
+            }
+        }
+        return new JobDocument(id, title, description.toString(), company, location, jobType, experienceLevel,
+                salary, null, null, true, latitude, longitude);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+
+    public BigDecimal getSalary() {
+        return salary;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public String getDescriptionTerms() {
+        return descriptionTerms;
+    }
+
+    public short[] getDescriptionCounts() {
+        return descriptionCounts;
+    }
+}
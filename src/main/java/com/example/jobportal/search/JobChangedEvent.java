@@ -0,0 +1,18 @@
+package com.example.jobportal.search;
+
+/**
+ * Published by {@code JobService} whenever a job is created, updated or deactivated.
+ * Delivered to the in-memory indexes after the surrounding transaction commits.
+ */
+public class JobChangedEvent {
+
+    private final JobDocument document;
+
+    public JobChangedEvent(JobDocument document) {
+        this.document = document;
+    }
+
+    public JobDocument getDocument() {
+        return document;
+    }
+}
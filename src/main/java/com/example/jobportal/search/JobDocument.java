@@ -0,0 +1,112 @@
+package com.example.jobportal.search;
+
+import com.example.jobportal.model.Job;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of the searchable fields of a {@link Job}.
+ * Built inside the writing transaction so indexes never touch lazy associations.
+ */
+public class JobDocument {
+
+    private final long id;
+    private final String title;
+    private final String description;
+    private final String company;
+    private final String location;
+    private final String jobType;
+    private final String experienceLevel;
+    private final BigDecimal salary;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final boolean active;
+    private final Double latitude;
+    private final Double longitude;
+
+    public JobDocument(long id, String title, String description, String company, String location,
+                       String jobType, String experienceLevel, BigDecimal salary,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, boolean active) {
+        this(id, title, description, company, location, jobType, experienceLevel, salary,
+                createdAt, updatedAt, active, null, null);
+    }
+
+    public JobDocument(long id, String title, String description, String company, String location,
+                       String jobType, String experienceLevel, BigDecimal salary,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, boolean active,
+                       Double latitude, Double longitude) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.company = company;
+        this.location = location;
+        this.jobType = jobType;
+        this.experienceLevel = experienceLevel;
+        this.salary = salary;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.active = active;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static JobDocument from(Job job) {
+        return new JobDocument(job.getId(), job.getTitle(), job.getDescription(), job.getCompany(),
+                job.getLocation(), job.getJobType(), job.getExperienceLevel(), job.getSalary(),
+                job.getCreatedAt(), job.getUpdatedAt(), Boolean.TRUE.equals(job.getIsActive()),
+                job.getLatitude(), job.getLongitude());
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+
+    public BigDecimal getSalary() {
+        return salary;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.jobportal.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * One sorted id list of active jobs per job type, experience level and location value.
+ * Facet counts for a result set are tallied from the values of the jobs in it, so the cost
+ * follows the size of the result set rather than the number of values or the largest job id.
+ */
+@Component
+public class JobFacetIndex implements JobIndex {
+
+    public static final String JOB_TYPE = "jobType";
+    public static final String EXPERIENCE_LEVEL = "experienceLevel";
+    public static final String LOCATION = "location";
+
+    private static final String[] FACETS = {JOB_TYPE, EXPERIENCE_LEVEL, LOCATION};
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // facet -> normalised value -> ids of active jobs with that value
+    private final Map<String, Map<String, FacetValue>> facets = new HashMap<>();
+
+    // Normalised values each job was filed under, in FACETS order
+    private final Map<Long, String[]> jobValues = new HashMap<>();
+
+    private final BitSet activeIds = new BitSet();
+
+    public JobFacetIndex() {
+        for (String facet : FACETS) {
+            facets.put(facet, new HashMap<>());
+        }
+    }
+
+    @Override
+    public void index(JobDocument document) {
+        String[] raw = {document.getJobType(), document.getExperienceLevel(), document.getLocation()};
+        int docId = JobSearchIndex.toDocId(document.getId());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.getId());
+
+            String[] values = new String[FACETS.length];
+            for (int i = 0; i < FACETS.length; i++) {
+                values[i] = normalize(raw[i]);
+                if (values[i] != null) {
+                    final String display = raw[i].trim();
+                    facets.get(FACETS[i])
+                            .computeIfAbsent(values[i], v -> new FacetValue(display))
+                            .ids.add(docId);
+                }
+            }
+            jobValues.put(document.getId(), values);
+            activeIds.set(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            facets.values().forEach(Map::clear);
+            jobValues.clear();
+            activeIds.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Copy of the ids of every active job
+     */
+    public BitSet activeIds() {
+        lock.readLock().lock();
+        try {
+            return (BitSet) activeIds.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copy of the ids of active jobs whose facet has the given value (case-insensitive)
+     */
+    public BitSet idsWithValue(String facet, String value) {
+        lock.readLock().lock();
+        try {
+            FacetValue facetValue = facets.get(facet).get(normalize(value));
+            BitSet result = new BitSet();
+            if (facetValue != null) {
+                facetValue.ids.addTo(result);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of active jobs whose facet value contains the fragment (case-insensitive), like a LIKE '%fragment%' filter
+     */
+    public BitSet idsWithValueContaining(String facet, String fragment) {
+        String needle = normalize(fragment);
+        BitSet result = new BitSet();
+        if (needle == null) {
+            return result;
+        }
+
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, FacetValue> entry : facets.get(facet).entrySet()) {
+                if (entry.getKey().contains(needle)) {
+                    entry.getValue().ids.addTo(result);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Per-facet value counts within the given result set, largest first and at most maxValues per facet;
+     * values with no hits are left out
+     */
+    public Map<String, Map<String, Long>> count(BitSet resultIds, int maxValues) {
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+
+        lock.readLock().lock();
+        try {
+            List<Map<String, long[]>> tallies = new ArrayList<>(FACETS.length);
+            for (int i = 0; i < FACETS.length; i++) {
+                tallies.add(new HashMap<>());
+            }
+            for (int id = resultIds.nextSetBit(0); id >= 0; id = resultIds.nextSetBit(id + 1)) {
+                String[] values = jobValues.get((long) id);
+                if (values == null) {
+                    continue;
+                }
+                for (int i = 0; i < FACETS.length; i++) {
+                    if (values[i] != null) {
+                        tallies.get(i).computeIfAbsent(values[i], v -> new long[1])[0]++;
+                    }
+                }
+            }
+
+            for (int i = 0; i < FACETS.length; i++) {
+                Map<String, FacetValue> facet = facets.get(FACETS[i]);
+                List<Map.Entry<String, Long>> entries = new ArrayList<>(tallies.get(i).size());
+                for (Map.Entry<String, long[]> tally : tallies.get(i).entrySet()) {
+                    entries.add(Map.entry(facet.get(tally.getKey()).display, tally.getValue()[0]));
+                }
+                entries.sort(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()));
+
+                Map<String, Long> facetCounts = new LinkedHashMap<>();
+                for (Map.Entry<String, Long> entry : entries.subList(0, Math.min(maxValues, entries.size()))) {
+                    facetCounts.put(entry.getKey(), entry.getValue());
+                }
+                counts.put(FACETS[i], facetCounts);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    private void removeLocked(long jobId) {
+        String[] values = jobValues.remove(jobId);
+        if (values == null) {
+            return;
+        }
+        int docId = JobSearchIndex.toDocId(jobId);
+        for (int i = 0; i < FACETS.length; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            Map<String, FacetValue> facet = facets.get(FACETS[i]);
+            FacetValue facetValue = facet.get(values[i]);
+            if (facetValue != null) {
+                facetValue.ids.remove(docId);
+                if (facetValue.ids.isEmpty()) {
+                    facet.remove(values[i]);
+                }
+            }
+        }
+        activeIds.clear(docId);
+    }
+
+    static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class FacetValue {
+        // Spelling of the first job filed under this value
+        final String display;
+        final IdList ids = new IdList();
+
+        FacetValue(String display) {
+            this.display = display;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.jobportal.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Active jobs with coordinates bucketed into a fixed latitude/longitude grid. A radius query
+ * visits only the cells overlapping the circle's bounding box and then filters by great-circle distance.
+ */
+@Component
+public class JobGeoIndex implements JobIndex {
+
+    public static final double MAX_RADIUS_KM = 500;
+
+    // Half a degree is ~55 km north-south, so a city-sized radius touches a handful of cells
+    static final double CELL_DEGREES = 0.5;
+
+    private static final int LAT_CELLS = (int) (180 / CELL_DEGREES);
+    private static final int LON_CELLS = (int) (360 / CELL_DEGREES);
+
+    private static final double KM_PER_DEGREE = Math.PI * GeoPoint.EARTH_RADIUS_KM / 180;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // cell -> ids of the jobs inside it
+    private final Map<Integer, BitSet> cells = new HashMap<>();
+
+    // id -> {latitude, longitude}
+    private final Map<Integer, double[]> coordinates = new HashMap<>();
+
+    @Override
+    public void index(JobDocument document) {
+        int docId = JobSearchIndex.toDocId(document.getId());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+            if (document.getLatitude() == null || document.getLongitude() == null) {
+                return;
+            }
+            double latitude = document.getLatitude();
+            double longitude = document.getLongitude();
+            cells.computeIfAbsent(cell(latCell(latitude), lonCell(longitude)), c -> new BitSet()).set(docId);
+            coordinates.put(docId, new double[] {latitude, longitude});
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(JobSearchIndex.toDocId(jobId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            coordinates.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Jobs within radiusKm of the centre, nearest first (newest first at equal distance)
+     */
+    public List<GeoHit> nearby(GeoPoint center, double radiusKm) {
+        double radius = Math.min(radiusKm, MAX_RADIUS_KM);
+        double latDelta = radius / KM_PER_DEGREE;
+        double minLat = Math.max(-90, center.getLatitude() - latDelta);
+        double maxLat = Math.min(90, center.getLatitude() + latDelta);
+
+        // Longitude degrees shrink towards the poles; widen the box by the cosine of the worst-case latitude
+        double cos = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double lonDelta = cos > 1e-6 ? latDelta / cos : 180;
+        int fromLon;
+        int lonSpan;
+        if (lonDelta >= 180) {
+            fromLon = 0;
+            lonSpan = LON_CELLS;
+        } else {
+            fromLon = (int) Math.floor((center.getLongitude() - lonDelta + 180) / CELL_DEGREES);
+            lonSpan = Math.min(LON_CELLS,
+                    (int) Math.floor((center.getLongitude() + lonDelta + 180) / CELL_DEGREES) - fromLon + 1);
+        }
+
+        List<GeoHit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int lat = latCell(minLat); lat <= latCell(maxLat); lat++) {
+                for (int i = 0; i < lonSpan; i++) {
+                    BitSet ids = cells.get(cell(lat, Math.floorMod(fromLon + i, LON_CELLS)));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+                        double[] point = coordinates.get(id);
+                        double distance = center.distanceKm(point[0], point[1]);
+                        if (distance <= radius) {
+                            hits.add(new GeoHit(id, distance));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(GeoHit::getDistanceKm)
+                .thenComparing(Comparator.comparingLong(GeoHit::getJobId).reversed()));
+        return hits;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return coordinates.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(int docId) {
+        double[] point = coordinates.remove(docId);
+        if (point == null) {
+            return;
+        }
+        int cell = cell(latCell(point[0]), lonCell(point[1]));
+        BitSet ids = cells.get(cell);
+        ids.clear(docId);
+        if (ids.isEmpty()) {
+            cells.remove(cell);
+        }
+    }
+
+    private static int latCell(double latitude) {
+        return Math.min(LAT_CELLS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int lonCell(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), LON_CELLS);
+    }
+
+    private static int cell(int latCell, int lonCell) {
+        return latCell * LON_CELLS + lonCell;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.jobportal.search;
+
+import com.example.jobportal.model.Job;
+import com.example.jobportal.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geocodes jobs saved before coordinates were stored. Runs before the index rebuild at
+ * ApplicationReadyEvent, so those jobs are in the geo index from the first request.
+ * Every job is tried once, found or not, in batches of one transaction each.
+ */
+@Component
+public class JobGeocodingBackfill implements ApplicationRunner {
+
+    static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private Gazetteer gazetteer;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = 0;
+        long afterId = 0;
+        while (true) {
+            List<Job> batch = jobRepository.findByGeocodedAtIsNullAndIdGreaterThanOrderByIdAsc(afterId, Limit.of(BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            updated += transactionTemplate.execute(status -> geocode(batch));
+            afterId = batch.get(batch.size() - 1).getId();
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        if (updated > 0) {
+            System.out.println("Geocoded " + updated + " existing job locations");
+        }
+    }
+
+    // Stores the coordinates of the known places and marks the rest as tried; returns how many were found
+    private int geocode(List<Job> jobs) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> notFound = new ArrayList<>();
+        int updated = 0;
+        for (Job job : jobs) {
+            GeoPoint point = gazetteer.geocode(job.getLocation());
+            if (point != null) {
+                updated += jobRepository.updateCoordinates(job.getId(), point.getLatitude(), point.getLongitude(), now);
+            } else {
+                notFound.add(job.getId());
+            }
+        }
+        if (!notFound.isEmpty()) {
+            jobRepository.markGeocoded(notFound, now);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.jobportal.search;
+
+/**
+ * An in-memory structure over active jobs that {@link JobIndexer} keeps in sync with the database.
+ * Implementations must be thread-safe: writes arrive from committing transactions while reads serve requests.
+ */
+public interface JobIndex {
+
+    /**
+     * Add or replace the entry for an active job
+     */
+    void index(JobDocument document);
+
+    /**
+     * Drop the entry for a job that was deactivated; unknown ids are ignored
+     */
+    void remove(long jobId);
+
+    /**
+     * Drop every entry before a full rebuild
+     */
+    void clear();
+}
@@ -0,0 +1,253 @@
+package com.example.jobportal.search;
+
+import com.example.jobportal.model.Job;
+import com.example.jobportal.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps every {@link JobIndex} bean in sync with the jobs table: a full rebuild at startup,
+ * then one incremental update per committed job write. When a snapshot is available the startup
+ * load comes from it and only jobs changed since it was taken are read from the database.
+ * Writes committed by other nodes are picked up by polling the table's change columns.
+ */
+@Component
+public class JobIndexer {
+
+    // Replay window before the snapshot watermark, covering writes that were still committing when it was taken
+    static final Duration REPLAY_MARGIN = Duration.ofMinutes(5);
+
+    // Overlap of each poll with the previous one, for the same reason
+    static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+    // Watermark of an empty jobs table
+    private static final LocalDateTime NO_CHANGES = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private List<JobIndex> indexes;
+
+    @Autowired
+    private JobSnapshotStore snapshotStore;
+
+    // Every indexed job in the reduced form a snapshot stores; left empty when snapshots are disabled
+    private final Map<Long, IndexedJob> jobs = new HashMap<>();
+
+    // Latest change time read from the jobs table; every change up to it has been applied, give or take late commits
+    private LocalDateTime watermark = NO_CHANGES;
+
+    // Change time of the jobs applied within the poll overlap, so a poll skips rows that are already indexed
+    private final Map<Long, LocalDateTime> appliedChanges = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    // Whether jobs changed since the last snapshot was written
+    private boolean dirty = false;
+
+    private final Object snapshotLock = new Object();
+
+    /**
+     * Rebuild all indexes from the snapshot plus the jobs changed since, or from every active job
+     * when there is no usable snapshot, then write a fresh snapshot
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLocked();
+        // Outside the monitor: writeSnapshot takes snapshotLock before it, so the other order could deadlock
+        writeSnapshot();
+    }
+
+    /**
+     * Holding the monitor while reading the table makes writes that commit meanwhile wait and apply on top of the fresh state
+     */
+    private synchronized void rebuildLocked() {
+        long start = System.nanoTime();
+        JobSnapshotStore.Snapshot snapshot = snapshotStore.load();
+
+        indexes.forEach(JobIndex::clear);
+        jobs.clear();
+        appliedChanges.clear();
+        // Read before the rows, so anything changed while they load is polled again
+        watermark = latestChange();
+
+        if (snapshot != null) {
+            for (IndexedJob job : snapshot.getJobs()) {
+                apply(job.toDocument(), job);
+            }
+            List<Job> changed = jobRepository.findChangedSince(snapshot.getWatermark().minus(REPLAY_MARGIN));
+            changed.forEach(this::applyChange);
+            System.out.println("Job indexes restored from a snapshot of " + snapshot.getJobs().size()
+                    + " jobs, replayed " + changed.size() + " changed rows in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } else {
+            List<Job> active = jobRepository.findByIsActiveTrueOrderByCreatedAtDesc();
+            // Oldest first, so ids arrive in increasing order and posting lists only append
+            for (int i = active.size() - 1; i >= 0; i--) {
+                applyChange(active.get(i));
+            }
+            System.out.println("Job indexes rebuilt from " + active.size() + " active jobs in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+
+        ready = true;
+        dirty = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobChanged(JobChangedEvent event) {
+        apply(event.getDocument());
+        // The row was stamped on this node before it committed, so a poll finds it no newer than now
+        appliedChanges.put(event.getDocument().getId(), LocalDateTime.now());
+    }
+
+    /**
+     * Apply the jobs changed since the watermark that this node has not indexed yet, which are the
+     * writes committed through other nodes; the table is read outside the monitor
+     */
+    @Scheduled(fixedDelayString = "${jobportal.search.poll-interval-ms:15000}",
+               initialDelayString = "${jobportal.search.poll-interval-ms:15000}")
+    public void pollChanges() {
+        LocalDateTime since;
+        synchronized (this) {
+            if (!ready) {
+                return;
+            }
+            since = watermark.minus(POLL_OVERLAP);
+        }
+
+        List<Job> changed = jobRepository.findChangedSince(since);
+
+        synchronized (this) {
+            for (Job job : changed) {
+                LocalDateTime applied = appliedChanges.get(job.getId());
+                if (applied == null || changedAt(job).isAfter(applied)) {
+                    applyChange(job);
+                }
+            }
+            LocalDateTime horizon = watermark.minus(POLL_OVERLAP);
+            appliedChanges.values().removeIf(changedAt -> !changedAt.isAfter(horizon));
+        }
+    }
+
+    /**
+     * True once the startup rebuild finished; until then searches fall back to the database
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Persist the indexed jobs if they changed; the copy is taken under the monitor, the file is written outside it
+     */
+    @Scheduled(fixedDelayString = "${jobportal.search.snapshot.interval-ms:300000}")
+    public void writeSnapshot() {
+        if (!snapshotStore.isEnabled()) {
+            return;
+        }
+
+        // One writer at a time, so an older copy never replaces a newer file
+        synchronized (snapshotLock) {
+            LocalDateTime snapshotWatermark;
+            List<IndexedJob> copy;
+            synchronized (this) {
+                if (!ready || !dirty) {
+                    return;
+                }
+                snapshotWatermark = watermark;
+                copy = new ArrayList<>(jobs.values());
+                dirty = false;
+            }
+            // Stored in id order so the restore appends to posting lists
+            copy.sort(Comparator.comparingLong(IndexedJob::getId));
+
+            try {
+                snapshotStore.save(snapshotWatermark, copy);
+            } catch (IOException e) {
+                synchronized (this) {
+                    dirty = true;
+                }
+                System.out.println("Could not write job index snapshot: " + e.getMessage());
+            }
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        writeSnapshot();
+    }
+
+    // A row read from the table: applied, remembered for the poll overlap, and moves the watermark
+    private void applyChange(Job job) {
+        apply(JobDocument.from(job));
+        LocalDateTime changedAt = changedAt(job);
+        if (changedAt.isAfter(watermark.minus(POLL_OVERLAP))) {
+            appliedChanges.put(job.getId(), changedAt);
+        }
+        if (changedAt.isAfter(watermark)) {
+            watermark = changedAt;
+        }
+    }
+
+    private void apply(JobDocument document) {
+        apply(document, null);
+    }
+
+    private void apply(JobDocument document, IndexedJob reduced) {
+        for (JobIndex index : indexes) {
+            if (document.isActive()) {
+                index.index(document);
+            } else {
+                index.remove(document.getId());
+            }
+        }
+        if (!snapshotStore.isEnabled()) {
+            return;
+        }
+        if (document.isActive()) {
+            jobs.put(document.getId(), reduced != null ? reduced : IndexedJob.of(document));
+        } else {
+            jobs.remove(document.getId());
+        }
+        dirty = true;
+    }
+
+    private LocalDateTime latestChange() {
+        JobRepository.ChangeTimes times = jobRepository.findLatestChangeTimes();
+        if (times == null) {
+            return NO_CHANGES;
+        }
+        LocalDateTime latest = latest(times.getCreated(), times.getUpdated(), times.getGeocoded());
+        return latest != null ? latest : NO_CHANGES;
+    }
+
+    private static LocalDateTime changedAt(Job job) {
+        LocalDateTime latest = latest(job.getCreatedAt(), job.getUpdatedAt(), job.getGeocodedAt());
+        return latest != null ? latest : NO_CHANGES;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b, LocalDateTime c) {
+        LocalDateTime latest = a;
+        for (LocalDateTime time : new LocalDateTime[] {b, c}) {
+            if (time != null && (latest == null || time.isAfter(latest))) {
+                latest = time;
+            }
+        }
+        return latest;
+    }
+}
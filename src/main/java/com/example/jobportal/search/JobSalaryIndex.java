@@ -0,0 +1,215 @@
+package com.example.jobportal.search;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Salaries of active jobs as parallel primitive arrays of (cents, job id), sorted by salary and then
+ * newest job first. A range is two binary searches, and the slice between them is already in salary order.
+ */
+@Component
+public class JobSalaryIndex implements JobIndex {
+
+    private static final BigDecimal MAX_CENTS = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final BigDecimal MIN_CENTS = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] cents = new long[16];
+    private int[] ids = new int[16];
+    private int size;
+
+    // Indexed salary per job, to find its slot again on update or removal
+    private final Map<Integer, Long> centsById = new HashMap<>();
+
+    @Override
+    public void index(JobDocument document) {
+        int docId = JobSearchIndex.toDocId(document.getId());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+            if (document.getSalary() == null) {
+                return;
+            }
+
+            long salary = toCents(document.getSalary(), RoundingMode.HALF_UP);
+            int position = position(salary, docId);
+            if (size == ids.length) {
+                cents = Arrays.copyOf(cents, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(cents, position, cents, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            cents[position] = salary;
+            ids[position] = docId;
+            size++;
+            centsById.put(docId, salary);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(JobSearchIndex.toDocId(jobId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            cents = new long[16];
+            ids = new int[16];
+            size = 0;
+            centsById.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of active jobs paying between min and max inclusive; a null bound is open
+     */
+    public BitSet idsInRange(BigDecimal min, BigDecimal max) {
+        BitSet result = new BitSet();
+        lock.readLock().lock();
+        try {
+            int from = lowerBound(min);
+            int to = upperBound(max);
+            for (int i = from; i < to; i++) {
+                result.set(ids[i]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * One page of the jobs in {@code filter} paying between min and max, by salary and then newest first.
+     * Only the salary range is walked, and only the requested page is materialised.
+     */
+    public List<Long> pageBySalary(BitSet filter, BigDecimal min, BigDecimal max,
+                                   boolean descending, int offset, int limit) {
+        List<Long> page = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            int from = lowerBound(min);
+            int to = upperBound(max);
+            int skipped = 0;
+
+            if (!descending) {
+                for (int i = from; i < to && page.size() < limit; i++) {
+                    if (filter.get(ids[i])) {
+                        if (skipped < offset) {
+                            skipped++;
+                        } else {
+                            page.add((long) ids[i]);
+                        }
+                    }
+                }
+                return page;
+            }
+
+            // Walk the runs of equal salary from the top, each run kept newest first
+            int end = to;
+            while (end > from && page.size() < limit) {
+                int start = end - 1;
+                while (start > from && cents[start - 1] == cents[end - 1]) {
+                    start--;
+                }
+                for (int i = start; i < end && page.size() < limit; i++) {
+                    if (filter.get(ids[i])) {
+                        if (skipped < offset) {
+                            skipped++;
+                        } else {
+                            page.add((long) ids[i]);
+                        }
+                    }
+                }
+                end = start;
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(int docId) {
+        Long salary = centsById.remove(docId);
+        if (salary == null) {
+            return;
+        }
+        int position = position(salary, docId);
+        System.arraycopy(cents, position + 1, cents, position, size - position - 1);
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * Slot of (salary, docId) in the (cents ascending, id descending) order, or where it would be inserted
+     */
+    private int position(long salary, int docId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cents[mid] < salary || cents[mid] == salary && ids[mid] > docId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First slot paying at least min
+    private int lowerBound(BigDecimal min) {
+        return min == null ? 0 : position(toCents(min, RoundingMode.CEILING), Integer.MAX_VALUE);
+    }
+
+    // First slot paying more than max
+    private int upperBound(BigDecimal max) {
+        if (max == null) {
+            return size;
+        }
+        long maxCents = toCents(max, RoundingMode.FLOOR);
+        return maxCents == Long.MAX_VALUE ? size : position(maxCents + 1, Integer.MAX_VALUE);
+    }
+
+    // Whole cents, saturating at the long range so an absurd bound still filters instead of failing
+    static long toCents(BigDecimal amount, RoundingMode rounding) {
+        BigDecimal cents = amount.movePointRight(2).setScale(0, rounding);
+        if (cents.compareTo(MAX_CENTS) >= 0) {
+            return Long.MAX_VALUE;
+        }
+        if (cents.compareTo(MIN_CENTS) <= 0) {
+            return Long.MIN_VALUE;
+        }
+        return cents.longValue();
+    }
+}
@@ -0,0 +1,317 @@
+package com.example.jobportal.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index (term -> posting list of job ids) over the title, description,
+ * company and location of active jobs. Replaces the leading-wildcard LIKE scan
+ * behind the public keyword search and scores ranked searches with BM25.
+ * Only created, and so only fed by {@link JobIndexer}, for {@code jobportal.search.strategy=index}.
+ */
+@Component
+@ConditionalOnProperty(name = "jobportal.search.strategy", havingValue = "index", matchIfMissing = true)
+public class JobSearchIndex implements JobIndex {
+
+    // Per-field weights applied to term frequencies and lengths, so a title hit outranks a description hit
+    static final float TITLE_WEIGHT = 3.0f;
+    static final float COMPANY_WEIGHT = 2.0f;
+    static final float LOCATION_WEIGHT = 1.5f;
+    static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    // BM25 term-frequency saturation and length normalisation
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    // Score multiplier for terms reached through a spelling correction rather than the query as typed
+    static final double FUZZY_BOOST = 0.5;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Sorted so a query term can also match every indexed term it is a prefix of
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+
+    // Terms per job, so an update or removal only touches the lists that contain it
+    private final Map<Integer, DocumentEntry> documents = new HashMap<>();
+
+    private final TermTrigramIndex trigrams = new TermTrigramIndex();
+
+    private double totalLength;
+
+    @Override
+    public void index(JobDocument document) {
+        int docId = toDocId(document.getId());
+
+        Map<String, Float> frequencies = new LinkedHashMap<>();
+        float length = addTerms(frequencies, document.getTitle(), TITLE_WEIGHT)
+                + addTerms(frequencies, document.getDescription(), DESCRIPTION_WEIGHT)
+                + addTerms(frequencies, document.getCompany(), COMPANY_WEIGHT)
+                + addTerms(frequencies, document.getLocation(), LOCATION_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+            for (Map.Entry<String, Float> entry : frequencies.entrySet()) {
+                PostingList list = postings.get(entry.getKey());
+                if (list == null) {
+                    list = new PostingList();
+                    postings.put(entry.getKey(), list);
+                    trigrams.add(entry.getKey());
+                }
+                list.add(docId, entry.getValue());
+            }
+            documents.put(docId, new DocumentEntry(frequencies.keySet().toArray(new String[0]), length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(toDocId(jobId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            trigrams.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the active jobs matching every term of the keyword, newest first.
+     * Each query term matches indexed terms it is a prefix of, so "dev" finds "developer".
+     */
+    public List<Long> search(String keyword) {
+        return search(keyword, false);
+    }
+
+    /**
+     * As {@link #search(String)}; with {@code fuzzy} a term also matches indexed terms within
+     * one or two edits of it, so "javascirpt" finds "javascript"
+     */
+    public List<Long> search(String keyword, boolean fuzzy) {
+        return newestFirst(matchingIds(keyword, fuzzy));
+    }
+
+    /**
+     * Ids of the active jobs matching every term of the keyword, as a bitset
+     */
+    public BitSet matchingIds(String keyword) {
+        return matchingIds(keyword, false);
+    }
+
+    public BitSet matchingIds(String keyword, boolean fuzzy) {
+        lock.readLock().lock();
+        try {
+            return matchLocked(JobTokenizer.tokenize(keyword), fuzzy);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} best BM25 matches for the keyword, highest score first.
+     * Only a heap of {@code limit} hits is kept, the full match set is never sorted.
+     */
+    public List<SearchHit> searchRanked(String keyword, int limit) {
+        return searchRanked(keyword, limit, false);
+    }
+
+    public List<SearchHit> searchRanked(String keyword, int limit, boolean fuzzy) {
+        List<String> queryTerms = JobTokenizer.tokenize(keyword);
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(limit + 1,
+                (a, b) -> a.getScore() != b.getScore()
+                        ? Double.compare(a.getScore(), b.getScore())
+                        : Long.compare(a.getJobId(), b.getJobId()));
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = matchLocked(queryTerms, fuzzy);
+            if (matches.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            double avgLength = totalLength / documents.size();
+            List<List<WeightedTerm>> expanded = new ArrayList<>(queryTerms.size());
+            for (String queryTerm : queryTerms) {
+                List<WeightedTerm> terms = new ArrayList<>();
+                for (PostingList list : expand(queryTerm).values()) {
+                    terms.add(new WeightedTerm(list, idf(list.size())));
+                }
+                if (fuzzy) {
+                    for (PostingList list : corrections(queryTerm)) {
+                        terms.add(new WeightedTerm(list, idf(list.size()) * FUZZY_BOOST));
+                    }
+                }
+                expanded.add(terms);
+            }
+
+            for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+                double norm = K1 * (1 - B + B * documents.get(id).length / avgLength);
+                double score = 0;
+                for (List<WeightedTerm> terms : expanded) {
+                    // A query term counts once, through its best-scoring expansion
+                    double best = 0;
+                    for (WeightedTerm term : terms) {
+                        float tf = term.postings.frequency(id);
+                        if (tf > 0) {
+                            best = Math.max(best, term.idf * tf * (K1 + 1) / (tf + norm));
+                        }
+                    }
+                    score += best;
+                }
+
+                top.offer(new SearchHit(id, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort((a, b) -> top.comparator().compare(b, a));
+        return hits;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet matchLocked(List<String> queryTerms, boolean fuzzy) {
+        BitSet result = null;
+        for (String queryTerm : queryTerms) {
+            BitSet termMatches = new BitSet();
+            for (PostingList list : expand(queryTerm).values()) {
+                list.addTo(termMatches);
+            }
+            if (fuzzy) {
+                for (PostingList list : corrections(queryTerm)) {
+                    list.addTo(termMatches);
+                }
+            }
+
+            if (result == null) {
+                result = termMatches;
+            } else {
+                result.and(termMatches);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result != null ? result : new BitSet();
+    }
+
+    private NavigableMap<String, PostingList> expand(String queryTerm) {
+        return postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false);
+    }
+
+    private List<PostingList> corrections(String queryTerm) {
+        List<PostingList> lists = new ArrayList<>();
+        for (String term : trigrams.similarTerms(queryTerm)) {
+            // Prefix matches of the query term are already covered by expand()
+            if (!term.startsWith(queryTerm)) {
+                lists.add(postings.get(term));
+            }
+        }
+        return lists;
+    }
+
+    private double idf(int documentFrequency) {
+        int n = documents.size();
+        return Math.log(1 + (n - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void removeLocked(int docId) {
+        DocumentEntry entry = documents.remove(docId);
+        if (entry == null) {
+            return;
+        }
+        totalLength -= entry.length;
+        for (String term : entry.terms) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                list.remove(docId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                    trigrams.remove(term);
+                }
+            }
+        }
+    }
+
+    private static float addTerms(Map<String, Float> frequencies, String text, float weight) {
+        List<String> tokens = JobTokenizer.tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    /**
+     * Ids in the bitset, highest (most recently created) first
+     */
+    public static List<Long> newestFirst(BitSet ids) {
+        List<Long> list = new ArrayList<>(ids.cardinality());
+        for (int id = ids.length() - 1; id >= 0; id = ids.previousSetBit(id - 1)) {
+            list.add((long) id);
+        }
+        return list;
+    }
+
+    static int toDocId(long jobId) {
+        return Math.toIntExact(jobId);
+    }
+
+    private static class DocumentEntry {
+        final String[] terms;
+        final float length;
+
+        DocumentEntry(String[] terms, float length) {
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+
+    private static class WeightedTerm {
+        final PostingList postings;
+        final double idf;
+
+        WeightedTerm(PostingList postings, double idf) {
+            this.postings = postings;
+            this.idf = idf;
+        }
+    }
+}
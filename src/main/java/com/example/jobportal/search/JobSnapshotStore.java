@@ -0,0 +1,207 @@
+package com.example.jobportal.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Binary snapshot of the indexed jobs, in the reduced {@link IndexedJob} form, so a restart can rebuild the in-memory indexes
+ * from a local file and only read the jobs changed since it was taken. The file is written to a
+ * temporary sibling and moved into place, and read back through a read-only memory mapping.
+ */
+@Component
+public class JobSnapshotStore {
+
+    private static final int MAGIC = 0x4A4F4253; // "JOBS"
+    // 2: documents reduced to IndexedJob, description as term counts
+    private static final int VERSION = 2;
+
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final Path path;
+
+    public JobSnapshotStore(@Value("${jobportal.search.snapshot.path:}") String path) {
+        this.path = path == null || path.isBlank() ? null : Paths.get(path);
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    /**
+     * The snapshot on disk, or null if there is none or it cannot be read
+     */
+    public Snapshot load() {
+        if (path == null || !Files.isRegularFile(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Ignoring unreadable job index snapshot " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public void save(LocalDateTime watermark, Collection<IndexedJob> jobs) throws IOException {
+        if (path == null) {
+            return;
+        }
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                encode(out, watermark, jobs);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static void encode(DataOutputStream out, LocalDateTime watermark, Collection<IndexedJob> jobs) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(toMicros(watermark));
+        out.writeInt(jobs.size());
+        for (IndexedJob job : jobs) {
+            out.writeLong(job.getId());
+            writeString(out, job.getTitle());
+            writeString(out, job.getCompany());
+            writeString(out, job.getLocation());
+            writeString(out, job.getJobType());
+            writeString(out, job.getExperienceLevel());
+            writeString(out, job.getSalary() != null ? job.getSalary().toPlainString() : null);
+            boolean located = job.getLatitude() != null && job.getLongitude() != null;
+            out.writeBoolean(located);
+            if (located) {
+                out.writeDouble(job.getLatitude());
+                out.writeDouble(job.getLongitude());
+            }
+            writeString(out, job.getDescriptionTerms());
+            short[] counts = job.getDescriptionCounts();
+            out.writeInt(counts.length);
+            for (short count : counts) {
+                out.writeShort(count);
+            }
+        }
+    }
+
+    static Snapshot decode(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IllegalStateException("not a version " + VERSION + " job snapshot");
+            }
+            LocalDateTime watermark = fromMicros(buffer.getLong());
+            int count = buffer.getInt();
+            List<IndexedJob> jobs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = buffer.getLong();
+                String title = readString(buffer);
+                String company = readString(buffer);
+                String location = readString(buffer);
+                String jobType = readString(buffer);
+                String experienceLevel = readString(buffer);
+                String salary = readString(buffer);
+                Double latitude = null;
+                Double longitude = null;
+                if (buffer.get() != 0) {
+                    latitude = buffer.getDouble();
+                    longitude = buffer.getDouble();
+                }
+                String descriptionTerms = readString(buffer);
+                short[] descriptionCounts = new short[buffer.getInt()];
+                for (int t = 0; t < descriptionCounts.length; t++) {
+                    descriptionCounts[t] = buffer.getShort();
+                }
+                jobs.add(new IndexedJob(id, title, company, location, jobType, experienceLevel,
+                        salary != null ? new BigDecimal(salary) : null, latitude, longitude,
+                        descriptionTerms, descriptionCounts));
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalStateException("trailing bytes after " + count + " jobs");
+            }
+            return new Snapshot(watermark, jobs);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("truncated job snapshot", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        if (time == null) {
+            return NO_TIME;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        if (micros == NO_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * Active jobs as of the watermark, a time taken from the jobs table's own change columns
+     */
+    public static class Snapshot {
+
+        private final LocalDateTime watermark;
+        private final List<IndexedJob> jobs;
+
+        public Snapshot(LocalDateTime watermark, List<IndexedJob> jobs) {
+            this.watermark = watermark;
+            this.jobs = jobs;
+        }
+
+        public LocalDateTime getWatermark() {
+            return watermark;
+        }
+
+        public List<IndexedJob> getJobs() {
+            return jobs;
+        }
+    }
+}
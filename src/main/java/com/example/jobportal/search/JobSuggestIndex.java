@@ -0,0 +1,328 @@
+package com.example.jobportal.search;
+
+import com.example.jobportal.dto.SuggestionResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead over job titles, companies and locations. Every distinct value is stored in a
+ * character trie under its full text and under each word it contains, so "fran" completes
+ * "San Francisco, CA". Each node caches its best completions by active-job count; a write only
+ * invalidates the nodes on the paths of the values it changed.
+ */
+@Component
+public class JobSuggestIndex implements JobIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // Keys are only indexed this deep; longer prefixes are answered by filtering that node's subtree
+    static final int MAX_KEY_LENGTH = 32;
+
+    static final String TITLE = "title";
+    static final String COMPANY = "company";
+    static final String LOCATION = "location";
+
+    private static final Comparator<Phrase> BY_COUNT = Comparator
+            .comparingLong((Phrase p) -> -p.count)
+            .thenComparing(p -> p.key)
+            .thenComparing(p -> p.field);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node();
+
+    // field + normalised text -> phrase
+    private final Map<String, Phrase> phrases = new HashMap<>();
+
+    // Phrases each job contributed to, so an update or removal can decrement them
+    private final Map<Long, Phrase[]> jobPhrases = new HashMap<>();
+
+    @Override
+    public void index(JobDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.getId());
+
+            List<Phrase> added = new ArrayList<>(3);
+            addPhrase(added, TITLE, document.getTitle());
+            addPhrase(added, COMPANY, document.getCompany());
+            addPhrase(added, LOCATION, document.getLocation());
+            jobPhrases.put(document.getId(), added.toArray(new Phrase[0]));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.clear();
+            phrases.clear();
+            jobPhrases.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} completions of the prefix, most active jobs first
+     */
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int depth = Math.min(key.length(), MAX_KEY_LENGTH);
+            for (int i = 0; i < depth && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return Collections.emptyList();
+            }
+
+            List<Phrase> top = key.length() <= MAX_KEY_LENGTH ? node.top() : node.collectMatching(key);
+            List<SuggestionResponse> suggestions = new ArrayList<>(Math.min(limit, top.size()));
+            for (Phrase phrase : top.subList(0, Math.min(limit, top.size()))) {
+                suggestions.add(new SuggestionResponse(phrase.text, phrase.field, phrase.count));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addPhrase(List<Phrase> added, String field, String text) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+
+        Phrase phrase = phrases.get(field + '\0' + key);
+        if (phrase == null) {
+            phrase = new Phrase(field, key, text.trim());
+            phrases.put(field + '\0' + key, phrase);
+            for (String suffix : wordSuffixes(key, MAX_KEY_LENGTH)) {
+                root.insert(suffix, 0, phrase);
+            }
+        }
+        phrase.count++;
+        invalidate(phrase);
+        added.add(phrase);
+    }
+
+    private void removeLocked(long jobId) {
+        Phrase[] previous = jobPhrases.remove(jobId);
+        if (previous == null) {
+            return;
+        }
+        for (Phrase phrase : previous) {
+            phrase.count--;
+            invalidate(phrase);
+            if (phrase.count == 0) {
+                phrases.remove(phrase.field + '\0' + phrase.key);
+                for (String suffix : wordSuffixes(phrase.key, MAX_KEY_LENGTH)) {
+                    root.delete(suffix, 0, phrase);
+                }
+            }
+        }
+    }
+
+    private void invalidate(Phrase phrase) {
+        for (String suffix : wordSuffixes(phrase.key, MAX_KEY_LENGTH)) {
+            root.invalidate(suffix, 0);
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The key itself plus every suffix starting at a word, truncated to {@code maxLength}
+     */
+    static List<String> wordSuffixes(String key, int maxLength) {
+        List<String> suffixes = new ArrayList<>();
+        for (int i = 0; i < key.length(); i++) {
+            if (i == 0 || Character.isLetterOrDigit(key.charAt(i)) && !Character.isLetterOrDigit(key.charAt(i - 1))) {
+                suffixes.add(key.substring(i, Math.min(key.length(), i + maxLength)));
+            }
+        }
+        return suffixes;
+    }
+
+    private static class Phrase {
+        final String field;
+        final String key;
+        final String text;
+        long count;
+
+        Phrase(String field, String key, String text) {
+            this.field = field;
+            this.key = key;
+            this.text = text;
+        }
+    }
+
+    private static class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+
+        // Phrases with a key ending exactly here
+        private final List<Phrase> terminals = new ArrayList<>(1);
+
+        // Best completions for this subtree; null when a write below made it stale
+        private volatile List<Phrase> top;
+
+        Node child(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        void insert(String key, int depth, Phrase phrase) {
+            top = null;
+            if (depth == key.length()) {
+                if (!terminals.contains(phrase)) {
+                    terminals.add(phrase);
+                }
+                return;
+            }
+            char c = key.charAt(depth);
+            Node next = child(c);
+            if (next == null) {
+                next = new Node();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                labels[labels.length - 1] = c;
+                children[children.length - 1] = next;
+            }
+            next.insert(key, depth + 1, phrase);
+        }
+
+        /**
+         * Remove the phrase under the key; returns true if this node is now empty and can be pruned
+         */
+        boolean delete(String key, int depth, Phrase phrase) {
+            top = null;
+            if (depth == key.length()) {
+                terminals.remove(phrase);
+            } else {
+                char c = key.charAt(depth);
+                for (int i = 0; i < labels.length; i++) {
+                    if (labels[i] == c) {
+                        if (children[i].delete(key, depth + 1, phrase)) {
+                            removeChild(i);
+                        }
+                        break;
+                    }
+                }
+            }
+            return terminals.isEmpty() && labels.length == 0;
+        }
+
+        void invalidate(String key, int depth) {
+            top = null;
+            if (depth < key.length()) {
+                Node next = child(key.charAt(depth));
+                if (next != null) {
+                    next.invalidate(key, depth + 1);
+                }
+            }
+        }
+
+        /**
+         * Cached best completions, rebuilt from the children's cached lists when stale.
+         * Any phrase in the top N of this subtree is also in the top N of the child that holds it.
+         */
+        List<Phrase> top() {
+            List<Phrase> cached = top;
+            if (cached != null) {
+                return cached;
+            }
+
+            Set<Phrase> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            candidates.addAll(terminals);
+            for (Node child : children) {
+                candidates.addAll(child.top());
+            }
+            List<Phrase> sorted = new ArrayList<>(candidates);
+            sorted.sort(BY_COUNT);
+            cached = List.copyOf(sorted.subList(0, Math.min(MAX_SUGGESTIONS, sorted.size())));
+            top = cached;
+            return cached;
+        }
+
+        List<Phrase> collectMatching(String prefix) {
+            Set<Phrase> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            collect(matches, prefix);
+            List<Phrase> sorted = new ArrayList<>(matches);
+            sorted.sort(BY_COUNT);
+            return sorted;
+        }
+
+        private void collect(Set<Phrase> matches, String prefix) {
+            for (Phrase phrase : terminals) {
+                for (String suffix : wordSuffixes(phrase.key, Integer.MAX_VALUE)) {
+                    if (suffix.startsWith(prefix)) {
+                        matches.add(phrase);
+                        break;
+                    }
+                }
+            }
+            for (Node child : children) {
+                child.collect(matches, prefix);
+            }
+        }
+
+        private void removeChild(int index) {
+            int remaining = labels.length - index - 1;
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, remaining);
+            System.arraycopy(children, index + 1, newChildren, index, remaining);
+            labels = newLabels;
+            children = newChildren;
+        }
+
+        void clear() {
+            labels = new char[0];
+            children = new Node[0];
+            terminals.clear();
+            top = null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.jobportal.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Sorted, growable array of job ids that contain a term, with the field-weighted
+ * frequency of the term in each job alongside.
+ * Ids are normally assigned in increasing order, so inserts are appends in the common case.
+ */
+class PostingList {
+
+    private int[] ids = new int[4];
+    private float[] frequencies = new float[4];
+    private int size;
+
+    void add(int id, float frequency) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            frequencies[pos] = frequency;
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        frequencies[insertAt] = frequency;
+        size++;
+    }
+
+    void remove(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        System.arraycopy(frequencies, pos + 1, frequencies, pos, size - pos - 1);
+        size--;
+    }
+
+    /**
+     * Weighted frequency of the term in the given job, or 0 if the job is not in the list
+     */
+    float frequency(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        return pos >= 0 ? frequencies[pos] : 0f;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void addTo(BitSet target) {
+        for (int i = 0; i < size; i++) {
+            target.set(ids[i]);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.jobportal.search;
+
+/**
+ * A job id with its relevance score from a ranked search
+ */
+public class SearchHit {
+
+    private final long jobId;
+    private final double score;
+
+    public SearchHit(long jobId, double score) {
+        this.jobId = jobId;
+        this.score = score;
+    }
+
+    public long getJobId() {
+        return jobId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.jobportal.search;
+
+/**
+ * How the public keyword search is answered, set by {@code jobportal.search.strategy}
+ */
+public enum SearchStrategy {
+    // In-process inverted index (JobSearchIndex), rebuilt at startup
+    INDEX,
+    // MySQL MATCH ... AGAINST over the ft_jobs_search FULLTEXT index
+    FULLTEXT,
+    // Leading-wildcard LIKE scan; also the fallback for the other two
+    LIKE
+}
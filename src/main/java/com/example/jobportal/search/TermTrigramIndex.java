@@ -0,0 +1,123 @@
+package com.example.jobportal.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Character trigram index over the term dictionary of {@link JobSearchIndex}, used to correct
+ * misspelled query terms. Candidates sharing enough trigrams with the query term are verified
+ * with a bounded edit distance, so the cost depends on the vocabulary, not on the number of jobs.
+ * Not thread-safe; guarded by the owning index's lock.
+ */
+class TermTrigramIndex {
+
+    // Shorter query terms are too ambiguous to correct
+    static final int MIN_FUZZY_LENGTH = 4;
+
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+
+    void add(String term) {
+        for (String trigram : trigrams(term)) {
+            termsByTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(term);
+        }
+    }
+
+    void remove(String term) {
+        for (String trigram : trigrams(term)) {
+            Set<String> terms = termsByTrigram.get(trigram);
+            if (terms != null) {
+                terms.remove(term);
+                if (terms.isEmpty()) {
+                    termsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        termsByTrigram.clear();
+    }
+
+    /**
+     * Indexed terms within {@link #maxEdits(int)} edits of the query term
+     */
+    List<String> similarTerms(String queryTerm) {
+        List<String> similar = new ArrayList<>();
+        if (queryTerm.length() < MIN_FUZZY_LENGTH) {
+            return similar;
+        }
+
+        int maxEdits = maxEdits(queryTerm.length());
+        List<String> queryTrigrams = trigrams(queryTerm);
+        // Each edit destroys at most three trigrams
+        int minShared = Math.max(1, queryTrigrams.size() - 3 * maxEdits);
+
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            Set<String> terms = termsByTrigram.get(trigram);
+            if (terms != null) {
+                for (String term : terms) {
+                    shared.merge(term, 1, Integer::sum);
+                }
+            }
+        }
+
+        for (Map.Entry<String, Integer> candidate : shared.entrySet()) {
+            String term = candidate.getKey();
+            if (candidate.getValue() >= minShared
+                    && Math.abs(term.length() - queryTerm.length()) <= maxEdits
+                    && editDistance(queryTerm, term, maxEdits) <= maxEdits) {
+                similar.add(term);
+            }
+        }
+        return similar;
+    }
+
+    static int maxEdits(int length) {
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Distinct trigrams of the term padded as "$$term$", so short terms and word edges still produce grams
+     */
+    static List<String> trigrams(String term) {
+        String padded = "$$" + term + "$";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return new ArrayList<>(grams);
+    }
+
+    /**
+     * Levenshtein distance, or {@code limit + 1} as soon as it is known to exceed the limit
+     */
+    static int editDistance(String a, String b, int limit) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.jobportal.security;
 
+import com.example.jobportal.model.User;
 import com.example.jobportal.service.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,8 +21,14 @@ import java.io.IOException;
 
 public class AuthTokenFilter extends OncePerRequestFilter {
     
+    // Never given header values or the principal, which carry credentials and personal data
+    private static final Logger log = LoggerFactory.getLogger(AuthTokenFilter.class);
+    
+    @Autowired
+    private JwtVerifier jwtVerifier;
+    
     @Autowired
-    private JwtUtils jwtUtils;
+    private VerifiedTokenCache verifiedTokenCache;
     
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
@@ -26,74 +36,59 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        System.out.println("\n=== AUTH FILTER DEBUG ===");
-        System.out.println("Request URI: " + request.getRequestURI());
-        System.out.println("Request Method: " + request.getMethod());
-        System.out.println("Request URL: " + request.getRequestURL());
-        System.out.println("ContextPath: " + request.getContextPath());
-        System.out.println("ServletPath: " + request.getServletPath());
-        System.out.println("PathInfo: " + request.getPathInfo());
-        
-        // Print all headers for debugging
-        System.out.println("--- Request Headers ---");
-        java.util.Enumeration<String> headerNames = request.getHeaderNames();
-        while(headerNames.hasMoreElements()) {
-            String headerName = headerNames.nextElement();
-            System.out.println(headerName + ": " + request.getHeader(headerName));
-        }
-        System.out.println("--- End Headers ---");
-        
         try {
             String jwt = parseJwt(request);
-            System.out.println("JWT Token: " + (jwt != null ? "Present" : "NULL"));
             
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                System.out.println("JWT Token is VALID");
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
-                System.out.println("Username from JWT: " + username);
-                
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                System.out.println("UserDetails loaded: " + userDetails.getUsername());
-                System.out.println("UserDetails authorities: " + userDetails.getAuthorities());
-                
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails,
-                                null,
-                                userDetails.getAuthorities());
+            // Verified once per token lifetime, then served from the cache; null when invalid
+            Claims claims = jwt != null ? verifiedTokenCache.verify(jwt) : null;
+            JwtPrincipal principal = claims != null ? jwtVerifier.toPrincipal(claims) : null;
+            
+            // Token issued before the claims were added: its user is loaded by the subject
+            UserDetails legacyUser = claims != null && principal == null
+                    ? userDetailsService.loadUserByUsername(claims.getSubject())
+                    : null;
+            
+            if (isRevoked(principal, legacyUser)) {
+                log.debug("Rejected a revoked token for {} {}", request.getMethod(), request.getRequestURI());
+            } else if (claims != null) {
+                UsernamePasswordAuthenticationToken authentication;
+                if (principal != null) {
+                    // Id and role come from the verified claims; the user row is loaded only if a service needs it
+                    authentication = new UsernamePasswordAuthenticationToken(principal,
+                            null,
+                            principal.getAuthorities());
+                } else {
+                    authentication = new UsernamePasswordAuthenticationToken(legacyUser,
+                            null,
+                            legacyUser.getAuthorities());
+                }
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                System.out.println("Authentication set in SecurityContext: " + authentication.getName());
-                
-                // Print authentication details after setting it
-                System.out.println("Authentication in context after setting: " + 
-                    (SecurityContextHolder.getContext().getAuthentication() != null ? 
-                    SecurityContextHolder.getContext().getAuthentication().getName() : "NULL"));
             } else if (jwt != null) {
-                System.out.println("JWT Token is INVALID");
-            } else {
-                System.out.println("No JWT Token found");
+                log.debug("Rejected an invalid token for {} {}", request.getMethod(), request.getRequestURI());
             }
         } catch (Exception e) {
-            System.out.println("Error in authentication: " + e.getMessage());
-            e.printStackTrace();
-            logger.error("Cannot set user authentication: {}", e);
+            log.error("Cannot set user authentication", e);
         }
         
-        // Print current authentication before continuing filter chain
-        System.out.println("Final authentication before proceeding: " + 
-            (SecurityContextHolder.getContext().getAuthentication() != null ? 
-            SecurityContextHolder.getContext().getAuthentication().getName() +
-            " with authorities: " + SecurityContextHolder.getContext().getAuthentication().getAuthorities()
-            : "NULL"));
-        
-        System.out.println("=== END AUTH FILTER DEBUG ===\n");
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * Whether the token was issued before its user last signed out. Checked here on every request, so no
+     * endpoint serves a revoked token whatever it reads from the principal. A token without a version
+     * claim counts as version 0 and stops working at the user's first logout.
+     */
+    private boolean isRevoked(JwtPrincipal principal, UserDetails legacyUser) {
+        if (principal != null) {
+            return verifiedTokenCache.isRevoked(principal);
+        }
+        return legacyUser instanceof User && ((User) legacyUser).getTokenVersion() != 0;
+    }
+    
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
-        System.out.println("Authorization header: " + (headerAuth != null ? headerAuth.substring(0, Math.min(20, headerAuth.length())) + "..." : "null"));
         
         if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
             return headerAuth.substring(7);
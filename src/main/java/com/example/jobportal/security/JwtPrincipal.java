@@ -0,0 +1,70 @@
+package com.example.jobportal.security;
+
+import com.example.jobportal.model.Role;
+import com.example.jobportal.model.User;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The authenticated user as described by the claims of a verified JWT: enough for authorization and for
+ * queries by user id without touching the users table. The full User is loaded on demand by AuthService.
+ */
+public class JwtPrincipal implements AuthenticatedPrincipal {
+    
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final int tokenVersion;
+    
+    // Set once AuthService has loaded the entity for this request
+    private User user;
+    
+    public JwtPrincipal(Long id, String email, Role role, int tokenVersion) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+    }
+    
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+    
+    @Override
+    public String getName() {
+        return email;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public Role getRole() {
+        return role;
+    }
+    
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+    
+    public User getUser() {
+        return user;
+    }
+    
+    public void setUser(User user) {
+        this.user = user;
+    }
+    
+    @Override
+    public String toString() {
+        return "JwtPrincipal{id=" + id + ", email=" + email + ", role=" + role + "}";
+    }
+}
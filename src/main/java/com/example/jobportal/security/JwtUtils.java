@@ -1,7 +1,9 @@
 package com.example.jobportal.security;
 
-import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import com.example.jobportal.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,21 +15,36 @@ import java.util.Date;
 @Component
 public class JwtUtils {
     
-    @Value("${jobportal.app.jwtSecret:mySecretKey}")
-    private String jwtSecret;
+    // Claims that let a request be authorized without loading the user
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+    
+    @Autowired
+    private JwtVerifier jwtVerifier;
     
     @Value("${jobportal.app.jwtExpirationMs:86400000}")
     private int jwtExpirationMs;
     
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return jwtVerifier.getSigningKey();
     }
     
     public String generateJwtToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
+        if (userPrincipal instanceof User) {
+            return generateTokenForUser((User) userPrincipal);
+        }
         
+        return generateTokenFromUsername(userPrincipal.getUsername());
+    }
+    
+    public String generateTokenForUser(User user) {
         return Jwts.builder()
-                .subject((userPrincipal.getUsername()))
+                .subject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
                 .issuedAt(new Date())
                 .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
                 .signWith(getSigningKey())
@@ -44,31 +61,19 @@ public class JwtUtils {
     }
     
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        Claims claims = jwtVerifier.verify(token);
+        return claims != null ? claims.getSubject() : null;
+    }
+    
+    /**
+     * Principal built from the token's claims, or null for an invalid token or one issued before they were added
+     */
+    public JwtPrincipal getPrincipalFromJwtToken(String token) {
+        Claims claims = jwtVerifier.verify(token);
+        return claims != null ? jwtVerifier.toPrincipal(claims) : null;
     }
     
     public boolean validateJwtToken(String authToken) {
-        try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(authToken);
-            return true;
-        } catch (MalformedJwtException e) {
-            System.err.println("Invalid JWT token: " + e.getMessage());
-        } catch (ExpiredJwtException e) {
-            System.err.println("JWT token is expired: " + e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            System.err.println("JWT token is unsupported: " + e.getMessage());
-        } catch (IllegalArgumentException e) {
-            System.err.println("JWT claims string is empty: " + e.getMessage());
-        }
-        
-        return false;
+        return jwtVerifier.verify(authToken) != null;
     }
 }
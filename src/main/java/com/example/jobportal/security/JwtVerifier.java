@@ -0,0 +1,80 @@
+package com.example.jobportal.security;
+
+import com.example.jobportal.model.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+
+/**
+ * Verifies JWTs with a signing key and parser built once at startup; each token is parsed and its
+ * signature checked a single time, yielding its claims.
+ */
+@Component
+public class JwtVerifier {
+    
+    // Rejected tokens are routine client errors, so they are only logged at debug level
+    private static final Logger log = LoggerFactory.getLogger(JwtVerifier.class);
+    
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    
+    @Autowired
+    public JwtVerifier(@Value("${jobportal.app.jwtSecret:mySecretKey}") String jwtSecret) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+    
+    SecretKey getSigningKey() {
+        return signingKey;
+    }
+    
+    /**
+     * Claims of a valid token, or null if it is malformed, expired, unsupported or wrongly signed
+     */
+    public Claims verify(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (MalformedJwtException e) {
+            log.debug("Invalid JWT token: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.debug("JWT token is expired: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.debug("JWT token is unsupported: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.debug("JWT token is not valid: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.debug("JWT claims string is empty: {}", e.getMessage());
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Principal described by verified claims, or null for a token issued before the claims were added
+     */
+    public JwtPrincipal toPrincipal(Claims claims) {
+        Number userId = claims.get(JwtUtils.CLAIM_USER_ID, Number.class);
+        String role = claims.get(JwtUtils.CLAIM_ROLE, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        Number tokenVersion = claims.get(JwtUtils.CLAIM_TOKEN_VERSION, Number.class);
+        
+        return new JwtPrincipal(userId.longValue(), claims.getSubject(), Role.valueOf(role),
+                tokenVersion == null ? 0 : tokenVersion.intValue());
+    }
+}
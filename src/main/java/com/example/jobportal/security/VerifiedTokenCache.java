@@ -0,0 +1,170 @@
+package com.example.jobportal.security;
+
+import com.example.jobportal.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claims of recently verified tokens, keyed by the SHA-256 of the token and kept until the token expires,
+ * so a session repeating its bearer token skips the HMAC check and claim decoding. Revocation is checked against
+ * the users.token_version column, read at most once per user per version TTL: a logout takes effect at once on
+ * the instance that handled it and within one TTL on the others, and survives restarts.
+ */
+@Component
+public class VerifiedTokenCache {
+    
+    public static final String CACHE_NAME = "verifiedTokens";
+    public static final String VERIFICATION_TIMER = "jwt.verification";
+    
+    private final JwtVerifier jwtVerifier;
+    
+    private final Cache<String, Claims> verified;
+    
+    // User id -> current token version, loaded from the users table and refreshed after the TTL
+    private final LoadingCache<Long, Integer> tokenVersions;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+    
+    private Timer verificationTimer;
+    
+    @Autowired
+    public VerifiedTokenCache(JwtVerifier jwtVerifier,
+                              @Value("${jobportal.security.token-cache.max-size:10000}") long maxSize,
+                              @Value("${jobportal.security.token-version-ttl-ms:30000}") long versionTtlMs) {
+        this.jwtVerifier = jwtVerifier;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        // A user that no longer exists loads as null, which is not cached and counts as revoked
+        this.tokenVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(versionTtlMs))
+                .build(userId -> userRepository.findTokenVersionById(userId).orElse(null));
+    }
+    
+    @PostConstruct
+    void registerMetrics() {
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verified, CACHE_NAME);
+            verificationTimer = Timer.builder(VERIFICATION_TIMER)
+                    .description("Signature check and claim decoding of tokens missing from the verified-token cache")
+                    .register(meterRegistry);
+        }
+    }
+    
+    /**
+     * Claims of a valid token, from the cache or a fresh verification; null if the token is invalid
+     */
+    public Claims verify(String token) {
+        String key = hash(token);
+        Claims claims = verified.getIfPresent(key);
+        if (claims != null) {
+            return claims;
+        }
+        
+        long start = System.nanoTime();
+        claims = jwtVerifier.verify(token);
+        if (verificationTimer != null) {
+            verificationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        
+        // Invalid tokens are not cached, so garbage cannot push out valid entries
+        if (claims != null) {
+            verified.put(key, claims);
+        }
+        return claims;
+    }
+    
+    /**
+     * Whether the principal's token was issued before its user's tokens were last revoked, on any instance
+     */
+    public boolean isRevoked(JwtPrincipal principal) {
+        Integer current = tokenVersions.get(principal.getId());
+        return current == null || current != principal.getTokenVersion();
+    }
+    
+    /**
+     * Record the user's new token version, rejecting their older tokens here at once, and drop their cached entries
+     */
+    public void revokeUser(Long userId, int newVersion) {
+        tokenVersions.asMap().merge(userId, newVersion, Math::max);
+        verified.asMap().values().removeIf(claims ->
+                userId.equals(toLong(claims.get(JwtUtils.CLAIM_USER_ID, Number.class))));
+    }
+    
+    /**
+     * Drop one token's entry; its next use is verified again
+     */
+    public void evict(String token) {
+        verified.invalidate(hash(token));
+    }
+    
+    public CacheStats stats() {
+        return verified.stats();
+    }
+    
+    public long size() {
+        verified.cleanUp();
+        return verified.estimatedSize();
+    }
+    
+    private static Long toLong(Number number) {
+        return number == null ? null : number.longValue();
+    }
+    
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+        
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return Long.MAX_VALUE;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
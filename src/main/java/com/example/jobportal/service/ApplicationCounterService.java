@@ -0,0 +1,213 @@
+package com.example.jobportal.service;
+
+import com.example.jobportal.model.ApplicationCounter;
+import com.example.jobportal.model.ApplicationCounter.Scope;
+import com.example.jobportal.model.ApplicationStatus;
+import com.example.jobportal.model.JobApplication;
+import com.example.jobportal.repository.ApplicationCounterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-job, per-provider and per-applicant application counts by status, kept in application_counters so
+ * count endpoints read one row instead of scanning job_applications. Writers adjust the counters in their own
+ * transaction; a scheduled reconciliation recomputes them from job_applications and repairs any drift.
+ */
+@Service
+@Transactional
+public class ApplicationCounterService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationCounterService.class);
+    
+    static final String RECONCILE_TASK = "application-counters.reconcile";
+    
+    // Tallies compared per transaction during a reconciliation
+    static final int RECONCILE_PAGE_SIZE = 1000;
+    
+    @Autowired
+    private ApplicationCounterRepository applicationCounterRepository;
+    
+    @Autowired
+    private TaskLeaseService taskLeaseService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    // How long a run keeps other instances from starting one; by default a full interval
+    @Value("${jobportal.counters.reconcile-lease-ms:${jobportal.counters.reconcile-interval-ms:3600000}}")
+    private long reconcileLeaseMs;
+    
+    /**
+     * Count a newly created application
+     */
+    public void applied(JobApplication application) {
+        applicationCounterRepository.addAll(application.getJob().getId(), application.getJob().getCreatedBy().getId(),
+                application.getApplicant().getId(), application.getStatus().name(), 1);
+    }
+    
+    /**
+     * Move an application from its previous status to its current one
+     */
+    public void statusChanged(JobApplication application, ApplicationStatus previous) {
+        ApplicationStatus current = application.getStatus();
+        if (previous == current) {
+            return;
+        }
+        
+        // Rows are always locked in (scope, status) order, so two opposite transitions cannot deadlock
+        ApplicationStatus first = previous.compareTo(current) < 0 ? previous : current;
+        ApplicationStatus second = first == previous ? current : previous;
+        applicationCounterRepository.addAll(application.getJob().getId(), application.getJob().getCreatedBy().getId(),
+                application.getApplicant().getId(),
+                first.name(), first == previous ? -1 : 1, second.name(), second == previous ? -1 : 1);
+    }
+    
+    /**
+     * Applications of one owner in one status
+     */
+    @Transactional(readOnly = true)
+    public long count(Scope scope, Long ownerId, ApplicationStatus status) {
+        return applicationCounterRepository.countOf(scope, ownerId, status);
+    }
+    
+    /**
+     * Applications of one owner in any status
+     */
+    @Transactional(readOnly = true)
+    public long total(Scope scope, Long ownerId) {
+        return applicationCounterRepository.totalOf(scope, ownerId);
+    }
+    
+    /**
+     * Applications of one owner per status, read in one query; statuses without applications are left out
+     */
+    @Transactional(readOnly = true)
+    public Map<ApplicationStatus, Long> countsByStatus(Scope scope, Long ownerId) {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationCounter counter : applicationCounterRepository.findByScopeAndOwnerId(scope, ownerId)) {
+            counts.put(counter.getStatus(), counter.getCount());
+        }
+        return counts;
+    }
+    
+    /**
+     * Recompute every counter from job_applications and fix the ones that drifted. Runs at startup, which also
+     * fills the table for applications created before it existed, and then periodically, on whichever instance
+     * takes the lease. Owners are compared a page at a time, each page in its own transaction; a counter written
+     * concurrently is left alone and checked again on the next run.
+     */
+    @Scheduled(initialDelayString = "${jobportal.counters.reconcile-initial-delay-ms:0}",
+               fixedDelayString = "${jobportal.counters.reconcile-interval-ms:3600000}")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void reconcile() {
+        if (!taskLeaseService.tryAcquire(RECONCILE_TASK, Duration.ofMillis(reconcileLeaseMs))) {
+            return;
+        }
+        
+        int repaired = 0;
+        for (Scope scope : Scope.values()) {
+            long after = Long.MIN_VALUE;
+            while (after != Long.MAX_VALUE) {
+                long from = after;
+                ReconciledPage page = transactionTemplate.execute(status -> reconcilePage(scope, from));
+                repaired += page.repaired;
+                after = page.upTo;
+            }
+        }
+        
+        if (repaired > 0) {
+            logger.info("Application counters: repaired {} drifted counters", repaired);
+        }
+    }
+    
+    /**
+     * Reconcile the counters of owners after the given id, up to a page of tallies
+     */
+    private ReconciledPage reconcilePage(Scope scope, long after) {
+        List<ApplicationCounterRepository.Tally> tallies = tally(scope, after, Limit.of(RECONCILE_PAGE_SIZE));
+        long upTo = Long.MAX_VALUE;
+        if (tallies.size() == RECONCILE_PAGE_SIZE) {
+            // The last owner's statuses may continue on the next page, so it is left to that one
+            long lastOwner = tallies.get(tallies.size() - 1).getOwnerId();
+            int end = tallies.size();
+            while (end > 0 && tallies.get(end - 1).getOwnerId() == lastOwner) {
+                end--;
+            }
+            upTo = end > 0 ? tallies.get(end - 1).getOwnerId() : lastOwner;
+            tallies = end > 0 ? tallies.subList(0, end) : tallies;
+        }
+        
+        Map<String, ApplicationCounter> stored = new HashMap<>();
+        for (ApplicationCounter counter : applicationCounterRepository
+                .findByScopeAndOwnerIdGreaterThanAndOwnerIdLessThanEqual(scope, after, upTo)) {
+            stored.put(key(counter.getScope(), counter.getOwnerId(), counter.getStatus()), counter);
+        }
+        
+        int repaired = repair(scope, tallies, stored);
+        
+        // Whatever is left has no applications behind it any more
+        for (ApplicationCounter counter : stored.values()) {
+            if (counter.getCount() != 0) {
+                repaired += applicationCounterRepository.compareAndSet(counter.getId(), counter.getCount(), 0);
+            }
+        }
+        return new ReconciledPage(repaired, upTo);
+    }
+    
+    private List<ApplicationCounterRepository.Tally> tally(Scope scope, long after, Limit limit) {
+        switch (scope) {
+            case JOB:
+                return applicationCounterRepository.tallyByJob(after, limit);
+            case PROVIDER:
+                return applicationCounterRepository.tallyByProvider(after, limit);
+            default:
+                return applicationCounterRepository.tallyByApplicant(after, limit);
+        }
+    }
+    
+    private int repair(Scope scope, List<ApplicationCounterRepository.Tally> tallies,
+                       Map<String, ApplicationCounter> stored) {
+        int repaired = 0;
+        for (ApplicationCounterRepository.Tally tally : tallies) {
+            ApplicationCounter counter = stored.remove(key(scope, tally.getOwnerId(), tally.getStatus()));
+            if (counter == null) {
+                // A writer that created the row meanwhile already counted its application; left for the next run
+                repaired += applicationCounterRepository.insertIfAbsent(scope.name(), tally.getOwnerId(),
+                        tally.getStatus().name(), tally.getCount());
+            } else if (counter.getCount() != tally.getCount()) {
+                repaired += applicationCounterRepository.compareAndSet(counter.getId(), counter.getCount(),
+                        tally.getCount());
+            }
+        }
+        return repaired;
+    }
+    
+    private static String key(Scope scope, Long ownerId, ApplicationStatus status) {
+        return scope + ":" + ownerId + ":" + status;
+    }
+    
+    private static final class ReconciledPage {
+        final int repaired;
+        // Last owner id the page covered, Long.MAX_VALUE once the scope is done
+        final long upTo;
+        
+        ReconciledPage(int repaired, long upTo) {
+            this.repaired = repaired;
+            this.upTo = upTo;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.jobportal.service;
+
+import com.example.jobportal.model.JobApplication;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Removes duplicate applications and adds the job/applicant unique constraint when Hibernate's schema
+ * update could not. Startup fails if the constraint is still missing, since duplicate applications are
+ * only rejected through it.
+ */
+@Component
+public class ApplicationUniqueConstraintMigration implements ApplicationRunner {
+
+    private static final String SCRIPT = "db/applications-unique.sql";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (constraintExists()) {
+            return;
+        }
+
+        for (String statement : readStatements()) {
+            jdbcTemplate.execute(statement);
+        }
+        if (!constraintExists()) {
+            throw new RuntimeException("Unique constraint " + JobApplication.UK_JOB_APPLICANT
+                    + " is missing on job_applications; apply " + SCRIPT);
+        }
+        System.out.println("Removed duplicate applications and created " + JobApplication.UK_JOB_APPLICANT);
+    }
+
+    // SCHEMA() is the current database on MySQL and the current schema on H2; H2 also upper-cases names
+    private boolean constraintExists() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.table_constraints " +
+                "WHERE table_schema = SCHEMA() AND LOWER(table_name) = 'job_applications' " +
+                "AND LOWER(constraint_name) = ?",
+                Integer.class, JobApplication.UK_JOB_APPLICANT);
+        return existing != null && existing > 0;
+    }
+
+    private static List<String> readStatements() throws IOException {
+        String script = StreamUtils.copyToString(new ClassPathResource(SCRIPT).getInputStream(), StandardCharsets.UTF_8);
+        StringBuilder body = new StringBuilder();
+        for (String line : script.split("\n")) {
+            if (!line.trim().startsWith("--")) {
+                body.append(line).append('\n');
+            }
+        }
+        List<String> statements = new ArrayList<>();
+        for (String statement : body.toString().split(";")) {
+            if (!statement.isBlank()) {
+                statements.add(statement.trim());
+            }
+        }
+        return statements;
+    }
+}
@@ -3,9 +3,12 @@ package com.example.jobportal.service;
 import com.example.jobportal.dto.AuthResponse;
 import com.example.jobportal.dto.LoginRequest;
 import com.example.jobportal.dto.SignupRequest;
+import com.example.jobportal.model.Role;
 import com.example.jobportal.model.User;
 import com.example.jobportal.repository.UserRepository;
+import com.example.jobportal.security.JwtPrincipal;
 import com.example.jobportal.security.JwtUtils;
+import com.example.jobportal.security.VerifiedTokenCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,6 +17,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
@@ -31,6 +36,9 @@ public class AuthService {
     @Autowired
     private JwtUtils jwtUtils;
     
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+    
     public AuthResponse authenticateUser(LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
@@ -69,41 +77,108 @@ public class AuthService {
         return new AuthResponse(jwt, user);
     }
     
+    /**
+     * Sign the current user out everywhere: bump their token version so every token issued so far is rejected.
+     * AuthTokenFilter compares the version on every request, so the principal methods below never see a revoked token.
+     */
+    public void logout() {
+        Long userId = getCurrentUserReference().getId();
+        // One atomic increment, so concurrent logouts on any instance each bump the version
+        userRepository.incrementTokenVersion(userId);
+        int tokenVersion = userRepository.findTokenVersionById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        
+        // Only once the new version is visible to other transactions, so a rollback never leaves the cache ahead of the row
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                verifiedTokenCache.revokeUser(userId, tokenVersion);
+            }
+        });
+    }
+    
+    /**
+     * The full User entity of the current request, loaded on first use for JWT-claims principals
+     */
     public User getCurrentUser() {
         System.out.println("=== GET CURRENT USER DEBUG ===");
+        Object principal = getCurrentPrincipal();
+        
+        User user;
+        if (principal instanceof JwtPrincipal) {
+            user = loadUser((JwtPrincipal) principal);
+        } else if (principal instanceof User) {
+            user = (User) principal;
+        } else {
+            System.out.println("ERROR: Principal is not a User instance, it's: " + principal.getClass().getName());
+            throw new RuntimeException("Principal is not a User instance, it's: " + principal.getClass().getName());
+        }
+        
+        System.out.println("User ID: " + user.getId());
+        System.out.println("User Email: " + user.getEmail());
+        System.out.println("User Role: " + user.getRole());
+        System.out.println("=== END GET CURRENT USER DEBUG ===");
+        
+        return user;
+    }
+    
+    /**
+     * The current user as an unloaded reference: usable as a query parameter, an association value or for
+     * getId() without a SELECT; any other getter loads the row inside the caller's transaction
+     */
+    public User getCurrentUserReference() {
+        Object principal = getCurrentPrincipal();
+        
+        if (principal instanceof JwtPrincipal) {
+            JwtPrincipal jwtPrincipal = (JwtPrincipal) principal;
+            return jwtPrincipal.getUser() != null
+                    ? jwtPrincipal.getUser()
+                    : userRepository.getReferenceById(jwtPrincipal.getId());
+        }
+        return getCurrentUser();
+    }
+    
+    /**
+     * Role of the current user, from the token claims when available
+     */
+    public Role getCurrentRole() {
+        Object principal = getCurrentPrincipal();
+        
+        if (principal instanceof JwtPrincipal) {
+            return ((JwtPrincipal) principal).getRole();
+        }
+        return getCurrentUser().getRole();
+    }
+    
+    private Object getCurrentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        System.out.println("Authentication from SecurityContext: " + authentication);
         
         if (authentication == null) {
             System.out.println("ERROR: No authentication found in security context");
             throw new RuntimeException("No authentication found in security context");
         }
         
-        System.out.println("Authentication name: " + authentication.getName());
-        System.out.println("Authentication authorities: " + authentication.getAuthorities());
-        System.out.println("Authentication is authenticated: " + authentication.isAuthenticated());
-        
         Object principal = authentication.getPrincipal();
-        System.out.println("Principal: " + principal);
         
         if (principal == null) {
             System.out.println("ERROR: No principal found in authentication");
             throw new RuntimeException("No principal found in authentication");
         }
         
-        System.out.println("Principal class: " + principal.getClass().getName());
-        
-        if (!(principal instanceof User)) {
-            System.out.println("ERROR: Principal is not a User instance, it's: " + principal.getClass().getName());
-            throw new RuntimeException("Principal is not a User instance, it's: " + principal.getClass().getName());
+        return principal;
+    }
+    
+    private User loadUser(JwtPrincipal principal) {
+        if (principal.getUser() == null) {
+            User user = userRepository.findById(principal.getId())
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            
+            // A token issued before the user's tokens were revoked
+            if (user.getTokenVersion() != principal.getTokenVersion()) {
+                throw new RuntimeException("Session is no longer valid, please sign in again");
+            }
+            principal.setUser(user);
         }
-        
-        User user = (User) principal;
-        System.out.println("User ID: " + user.getId());
-        System.out.println("User Email: " + user.getEmail());
-        System.out.println("User Role: " + user.getRole());
-        System.out.println("=== END GET CURRENT USER DEBUG ===");
-        
-        return user;
+        return principal.getUser();
     }
 }
@@ -1,16 +1,30 @@
 package com.example.jobportal.service;
 
+import com.example.jobportal.dto.CursorPage;
 import com.example.jobportal.dto.JobApplicationRequest;
 import com.example.jobportal.dto.JobApplicationResponse;
+import com.example.jobportal.dto.SeekerDashboardResponse;
 import com.example.jobportal.model.*;
 import com.example.jobportal.repository.JobApplicationRepository;
 import com.example.jobportal.repository.JobRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,14 +40,21 @@ public class JobApplicationService {
     @Autowired
     private AuthService authService;
     
+    @Autowired
+    private ApplicationCounterService applicationCounterService;
+    
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    private static final int MAX_APPLIED_LOOKUP = 200;
+    
     /**
      * Apply for a job
      */
     public JobApplicationResponse applyForJob(JobApplicationRequest request) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
         // Validate that current user is a job seeker
-        if (currentUser.getRole() != Role.JOB_SEEKER) {
+        if (authService.getCurrentRole() != Role.JOB_SEEKER) {
             throw new RuntimeException("Only Job Seekers can apply for jobs");
         }
         
@@ -50,12 +71,6 @@ public class JobApplicationService {
             throw new RuntimeException("This job is no longer active");
         }
         
-        // Check if user already applied
-        Optional<JobApplication> existingApplication = jobApplicationRepository.findByJobAndApplicant(job, currentUser);
-        if (existingApplication.isPresent()) {
-            throw new RuntimeException("You have already applied for this job");
-        }
-        
         // Check if user is trying to apply to their own job posting
         if (job.getCreatedBy().getId().equals(currentUser.getId())) {
             throw new RuntimeException("You cannot apply to your own job posting");
@@ -65,7 +80,17 @@ public class JobApplicationService {
         JobApplication application = new JobApplication(job, currentUser, request.getCoverLetter());
         application.setResumeUrl(request.getResumeUrl());
         
-        JobApplication savedApplication = jobApplicationRepository.save(application);
+        // The unique (job_id, applicant_id) constraint rejects a second application, even from a concurrent request
+        JobApplication savedApplication;
+        try {
+            savedApplication = jobApplicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            if (!violates(e, JobApplication.UK_JOB_APPLICANT)) {
+                throw e;
+            }
+            throw new RuntimeException("You have already applied for this job");
+        }
+        applicationCounterService.applied(savedApplication);
         return new JobApplicationResponse(savedApplication);
     }
     
@@ -73,9 +98,9 @@ public class JobApplicationService {
      * Get all applications for current job seeker
      */
     public List<JobApplicationResponse> getMyApplications() {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_SEEKER) {
+        if (authService.getCurrentRole() != Role.JOB_SEEKER) {
             throw new RuntimeException("Only Job Seekers can view their applications");
         }
         
@@ -85,13 +110,38 @@ public class JobApplicationService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * One page of the current job seeker's applications, newest first, optionally limited to some statuses
+     */
+    public CursorPage<JobApplicationResponse> getMyApplicationsPage(Collection<ApplicationStatus> statuses,
+                                                                    String cursor, int size) {
+        User currentUser = authService.getCurrentUserReference();
+        
+        if (authService.getCurrentRole() != Role.JOB_SEEKER) {
+            throw new RuntimeException("Only Job Seekers can view their applications");
+        }
+        
+        int cappedSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Collection<ApplicationStatus> filter = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(ApplicationStatus.class)
+                : statuses;
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        
+        List<JobApplication> applications = after == null
+                ? jobApplicationRepository.findPageByApplicant(currentUser, filter, Limit.of(cappedSize + 1))
+                : jobApplicationRepository.findPageByApplicantAfter(currentUser, filter,
+                        after.getTimestamp(), after.getId(), Limit.of(cappedSize + 1));
+        return KeysetCursor.page(applications, cappedSize, JobApplication::getAppliedAt,
+                JobApplication::getId, JobApplicationResponse::new);
+    }
+    
     /**
      * Get applications by status for current job seeker
      */
     public List<JobApplicationResponse> getMyApplicationsByStatus(ApplicationStatus status) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_SEEKER) {
+        if (authService.getCurrentRole() != Role.JOB_SEEKER) {
             throw new RuntimeException("Only Job Seekers can view their applications");
         }
         
@@ -106,9 +156,9 @@ public class JobApplicationService {
      * Withdraw application
      */
     public JobApplicationResponse withdrawApplication(Long applicationId) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_SEEKER) {
+        if (authService.getCurrentRole() != Role.JOB_SEEKER) {
             throw new RuntimeException("Only Job Seekers can withdraw applications");
         }
         
@@ -134,8 +184,16 @@ public class JobApplicationService {
             throw new RuntimeException("Cannot withdraw application with status: " + application.getStatus());
         }
         
+        ApplicationStatus previousStatus = application.getStatus();
         application.setStatus(ApplicationStatus.WITHDRAWN);
-        JobApplication updatedApplication = jobApplicationRepository.save(application);
+        JobApplication updatedApplication;
+        try {
+            // Flushed here so a concurrent status change fails this one before the counters move
+            updatedApplication = jobApplicationRepository.saveAndFlush(application);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new RuntimeException("Application was updated by someone else, please try again");
+        }
+        applicationCounterService.statusChanged(updatedApplication, previousStatus);
         
         return new JobApplicationResponse(updatedApplication);
     }
@@ -144,7 +202,7 @@ public class JobApplicationService {
      * Get application by ID (for job seeker)
      */
     public JobApplicationResponse getApplicationById(Long applicationId) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
         Optional<JobApplication> applicationOpt = jobApplicationRepository.findById(applicationId);
         if (applicationOpt.isEmpty()) {
@@ -168,54 +226,65 @@ public class JobApplicationService {
      * Get count of applications for current job seeker
      */
     public Long getMyApplicationsCount() {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_SEEKER) {
+        if (authService.getCurrentRole() != Role.JOB_SEEKER) {
             throw new RuntimeException("Only Job Seekers can view their application count");
         }
         
-        return jobApplicationRepository.countByApplicant(currentUser);
+        return applicationCounterService.total(ApplicationCounter.Scope.APPLICANT, currentUser.getId());
     }
     
     /**
      * Get count of applications by status for current job seeker
      */
     public Long getMyApplicationsCountByStatus(ApplicationStatus status) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_SEEKER) {
+        if (authService.getCurrentRole() != Role.JOB_SEEKER) {
             throw new RuntimeException("Only Job Seekers can view their application count");
         }
         
-        return jobApplicationRepository.countByApplicantAndStatus(currentUser, status);
+        return applicationCounterService.count(ApplicationCounter.Scope.APPLICANT, currentUser.getId(), status);
     }
     
     /**
      * Check if current user has applied for a specific job
      */
     public boolean hasAppliedForJob(Long jobId) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_SEEKER) {
+        if (authService.getCurrentRole() != Role.JOB_SEEKER) {
             return false;
         }
         
-        Optional<Job> jobOpt = jobRepository.findById(jobId);
-        if (jobOpt.isEmpty()) {
-            return false;
+        return !jobApplicationRepository.findAppliedJobIds(currentUser, List.of(jobId)).isEmpty();
+    }
+    
+    /**
+     * The subset of the given jobs the current user has applied to, from one query (for job listing pages)
+     */
+    public Set<Long> getAppliedJobIds(Collection<Long> jobIds) {
+        User currentUser = authService.getCurrentUserReference();
+        
+        if (authService.getCurrentRole() != Role.JOB_SEEKER || jobIds == null || jobIds.isEmpty()) {
+            return Collections.emptySet();
         }
         
-        Optional<JobApplication> application = jobApplicationRepository.findByJobAndApplicant(jobOpt.get(), currentUser);
-        return application.isPresent();
+        if (jobIds.size() > MAX_APPLIED_LOOKUP) {
+            throw new RuntimeException("At most " + MAX_APPLIED_LOOKUP + " job ids can be checked at once");
+        }
+        
+        return new HashSet<>(jobApplicationRepository.findAppliedJobIds(currentUser, new HashSet<>(jobIds)));
     }
     
     /**
      * Get recent applications for current job seeker
      */
     public List<JobApplicationResponse> getRecentApplications() {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_SEEKER) {
+        if (authService.getCurrentRole() != Role.JOB_SEEKER) {
             throw new RuntimeException("Only Job Seekers can view their applications");
         }
         
@@ -224,4 +293,44 @@ public class JobApplicationService {
                 .map(JobApplicationResponse::new)
                 .collect(Collectors.toList());
     }
+    
+    /**
+     * Application counts by status and the 10 latest applications of the current job seeker: one counter
+     * read and one list query with the jobs joined
+     */
+    public SeekerDashboardResponse getDashboard() {
+        User currentUser = authService.getCurrentUserReference();
+        
+        if (authService.getCurrentRole() != Role.JOB_SEEKER) {
+            throw new RuntimeException("Only Job Seekers can view their applications");
+        }
+        
+        Map<ApplicationStatus, Long> counts = applicationCounterService.countsByStatus(
+                ApplicationCounter.Scope.APPLICANT, currentUser.getId());
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long total = 0;
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            long count = counts.getOrDefault(status, 0L);
+            byStatus.put(status.name().toLowerCase(), count);
+            total += count;
+        }
+        
+        List<JobApplicationResponse> recent = jobApplicationRepository.findTop10ByApplicantOrderByAppliedAtDesc(currentUser)
+                .stream()
+                .map(JobApplicationResponse::new)
+                .collect(Collectors.toList());
+        
+        return new SeekerDashboardResponse(total, byStatus, recent);
+    }
+    
+    // Whether the named constraint is the one the database rejected the write for
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                String name = ((ConstraintViolationException) cause).getConstraintName();
+                return name != null && name.toLowerCase(Locale.ROOT).contains(constraint);
+            }
+        }
+        return false;
+    }
 }
@@ -1,14 +1,26 @@
 package com.example.jobportal.service;
 
+import com.example.jobportal.dto.CursorPage;
+import com.example.jobportal.dto.JobApplicationCount;
 import com.example.jobportal.dto.JobApplicationResponse;
+import com.example.jobportal.dto.ProviderDashboardResponse;
 import com.example.jobportal.model.*;
 import com.example.jobportal.repository.JobApplicationRepository;
 import com.example.jobportal.repository.JobRepository;
+import com.example.jobportal.repository.JobStatusCount;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -25,49 +37,34 @@ public class JobProviderApplicationService {
     @Autowired
     private AuthService authService;
     
+    @Autowired
+    private ApplicationCounterService applicationCounterService;
+    
+    private static final int MAX_PAGE_SIZE = 100;
+    
     /**
      * Get all applications for jobs created by current job provider
      */
     public List<JobApplicationResponse> getAllApplicationsForMyJobs() {
-        System.out.println("=== JOB PROVIDER APPLICATION SERVICE DEBUG ===");
-        System.out.println("JobProviderApplicationService.getAllApplicationsForMyJobs() called");
+        User currentUser = authService.getCurrentUserReference();
         
-        try {
-            System.out.println("Getting current user...");
-            User currentUser = authService.getCurrentUser();
-            System.out.println("Current user retrieved: " + currentUser.getEmail() + ", Role: " + currentUser.getRole());
-            
-            if (currentUser.getRole() != Role.JOB_PROVIDER) {
-                System.out.println("ERROR: User is not a JOB_PROVIDER. Role: " + currentUser.getRole());
-                throw new RuntimeException("Only Job Providers can view applications for their jobs");
-            }
-            
-            System.out.println("Querying database for applications...");
-            List<JobApplication> applications = jobApplicationRepository.findByJobProviderOrderByAppliedAtDesc(currentUser);
-            System.out.println("Found " + applications.size() + " applications");
-            
-            List<JobApplicationResponse> responses = applications.stream()
-                    .map(JobApplicationResponse::new)
-                    .collect(Collectors.toList());
-            
-            System.out.println("Converted to " + responses.size() + " response objects");
-            System.out.println("=== END JOB PROVIDER APPLICATION SERVICE DEBUG ===");
-            
-            return responses;
-        } catch (Exception e) {
-            System.out.println("ERROR in JobProviderApplicationService: " + e.getMessage());
-            e.printStackTrace();
-            throw e;
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
+            throw new RuntimeException("Only Job Providers can view applications for their jobs");
         }
+        
+        List<JobApplication> applications = jobApplicationRepository.findByJobProviderOrderByAppliedAtDesc(currentUser);
+        return applications.stream()
+                .map(JobApplicationResponse::new)
+                .collect(Collectors.toList());
     }
     
     /**
      * Get applications for a specific job (must be owned by current user)
      */
     public List<JobApplicationResponse> getApplicationsForJob(Long jobId) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_PROVIDER) {
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
             throw new RuntimeException("Only Job Providers can view applications for their jobs");
         }
         
@@ -89,13 +86,73 @@ public class JobProviderApplicationService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * One page of the applications for the current job provider's jobs, newest first,
+     * optionally limited to some statuses
+     */
+    public CursorPage<JobApplicationResponse> getApplicationsForMyJobsPage(Collection<ApplicationStatus> statuses,
+                                                                           String cursor, int size) {
+        User currentUser = authService.getCurrentUserReference();
+        
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
+            throw new RuntimeException("Only Job Providers can view applications for their jobs");
+        }
+        
+        int cappedSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Collection<ApplicationStatus> filter = statusFilter(statuses);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        
+        List<JobApplication> applications = after == null
+                ? jobApplicationRepository.findPageByJobProvider(currentUser, filter, Limit.of(cappedSize + 1))
+                : jobApplicationRepository.findPageByJobProviderAfter(currentUser, filter,
+                        after.getTimestamp(), after.getId(), Limit.of(cappedSize + 1));
+        return KeysetCursor.page(applications, cappedSize, JobApplication::getAppliedAt,
+                JobApplication::getId, JobApplicationResponse::new);
+    }
+    
+    /**
+     * One page of the applications for a job owned by the current user, newest first,
+     * optionally limited to some statuses
+     */
+    public CursorPage<JobApplicationResponse> getApplicationsForJobPage(Long jobId, Collection<ApplicationStatus> statuses,
+                                                                        String cursor, int size) {
+        User currentUser = authService.getCurrentUserReference();
+        
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
+            throw new RuntimeException("Only Job Providers can view applications for their jobs");
+        }
+        
+        Optional<Job> jobOpt = jobRepository.findById(jobId);
+        if (jobOpt.isEmpty()) {
+            throw new RuntimeException("Job not found");
+        }
+        
+        Job job = jobOpt.get();
+        
+        // Check if current user owns this job
+        if (!job.getCreatedBy().getId().equals(currentUser.getId())) {
+            throw new RuntimeException("You can only view applications for your own job postings");
+        }
+        
+        int cappedSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Collection<ApplicationStatus> filter = statusFilter(statuses);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        
+        List<JobApplication> applications = after == null
+                ? jobApplicationRepository.findPageByJob(job, filter, Limit.of(cappedSize + 1))
+                : jobApplicationRepository.findPageByJobAfter(job, filter,
+                        after.getTimestamp(), after.getId(), Limit.of(cappedSize + 1));
+        return KeysetCursor.page(applications, cappedSize, JobApplication::getAppliedAt,
+                JobApplication::getId, JobApplicationResponse::new);
+    }
+    
     /**
      * Get applications by status for current job provider
      */
     public List<JobApplicationResponse> getApplicationsByStatus(ApplicationStatus status) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_PROVIDER) {
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
             throw new RuntimeException("Only Job Providers can view applications for their jobs");
         }
         
@@ -110,9 +167,9 @@ public class JobProviderApplicationService {
      * Update application status (only job provider can do this for their jobs)
      */
     public JobApplicationResponse updateApplicationStatus(Long applicationId, ApplicationStatus newStatus) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_PROVIDER) {
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
             throw new RuntimeException("Only Job Providers can update application status");
         }
         
@@ -137,8 +194,16 @@ public class JobProviderApplicationService {
             throw new RuntimeException("Only job seekers can withdraw applications");
         }
         
+        ApplicationStatus previousStatus = application.getStatus();
         application.setStatus(newStatus);
-        JobApplication updatedApplication = jobApplicationRepository.save(application);
+        JobApplication updatedApplication;
+        try {
+            // Flushed here so a concurrent status change fails this one before the counters move
+            updatedApplication = jobApplicationRepository.saveAndFlush(application);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new RuntimeException("Application was updated by someone else, please try again");
+        }
+        applicationCounterService.statusChanged(updatedApplication, previousStatus);
         
         return new JobApplicationResponse(updatedApplication);
     }
@@ -147,36 +212,71 @@ public class JobProviderApplicationService {
      * Get total count of applications for current job provider
      */
     public Long getTotalApplicationsCount() {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_PROVIDER) {
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
             throw new RuntimeException("Only Job Providers can view application statistics");
         }
         
-        List<JobApplication> applications = jobApplicationRepository.findByJobProviderOrderByAppliedAtDesc(currentUser);
-        return (long) applications.size();
+        return applicationCounterService.total(ApplicationCounter.Scope.PROVIDER, currentUser.getId());
+    }
+    
+    /**
+     * Total, per-status and per-job application counts plus the active job count for the current
+     * job provider, all from one aggregate query
+     */
+    public ProviderDashboardResponse getDashboard() {
+        User currentUser = authService.getCurrentUserReference();
+        
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
+            throw new RuntimeException("Only Job Providers can view application statistics");
+        }
+        
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            byStatus.put(status.name().toLowerCase(), 0L);
+        }
+        Map<Long, JobApplicationCount> byJob = new LinkedHashMap<>();
+        long total = 0;
+        
+        for (JobStatusCount row : jobApplicationRepository.countByJobAndStatusForJobProvider(currentUser)) {
+            JobApplicationCount job = byJob.computeIfAbsent(row.getJobId(),
+                    id -> new JobApplicationCount(id, row.getTitle(), Boolean.TRUE.equals(row.getActive())));
+            if (row.getStatus() != null) {
+                job.setApplications(job.getApplications() + row.getApplications());
+                byStatus.merge(row.getStatus().name().toLowerCase(), row.getApplications(), Long::sum);
+                total += row.getApplications();
+            }
+        }
+        
+        List<JobApplicationCount> jobs = new ArrayList<>(byJob.values());
+        jobs.sort(Comparator.comparingLong(JobApplicationCount::getApplications).reversed()
+                .thenComparing(JobApplicationCount::getJobId, Comparator.reverseOrder()));
+        long activeJobs = jobs.stream().filter(JobApplicationCount::isActive).count();
+        
+        return new ProviderDashboardResponse(total, activeJobs, byStatus, jobs);
     }
     
     /**
      * Get count of applications by status for current job provider
      */
     public Long getApplicationsCountByStatus(ApplicationStatus status) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_PROVIDER) {
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
             throw new RuntimeException("Only Job Providers can view application statistics");
         }
         
-        return jobApplicationRepository.countByJobProviderAndStatus(currentUser, status);
+        return applicationCounterService.count(ApplicationCounter.Scope.PROVIDER, currentUser.getId(), status);
     }
     
     /**
      * Get count of applications for a specific job
      */
     public Long getApplicationsCountForJob(Long jobId) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_PROVIDER) {
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
             throw new RuntimeException("Only Job Providers can view application statistics");
         }
         
@@ -192,16 +292,16 @@ public class JobProviderApplicationService {
             throw new RuntimeException("You can only view statistics for your own job postings");
         }
         
-        return jobApplicationRepository.countByJob(job);
+        return applicationCounterService.total(ApplicationCounter.Scope.JOB, job.getId());
     }
     
     /**
      * Get recent applications for current job provider
      */
     public List<JobApplicationResponse> getRecentApplications() {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_PROVIDER) {
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
             throw new RuntimeException("Only Job Providers can view applications");
         }
         
@@ -210,4 +310,9 @@ public class JobProviderApplicationService {
                 .map(JobApplicationResponse::new)
                 .collect(Collectors.toList());
     }
+    
+    // No status filter means every status
+    private static Collection<ApplicationStatus> statusFilter(Collection<ApplicationStatus> statuses) {
+        return statuses == null || statuses.isEmpty() ? EnumSet.allOf(ApplicationStatus.class) : statuses;
+    }
 }
@@ -1,20 +1,64 @@
 package com.example.jobportal.service;
 
+import com.example.jobportal.cache.JobQueryCache;
 import com.example.jobportal.dto.CreateJobRequest;
+import com.example.jobportal.dto.CursorPage;
+import com.example.jobportal.dto.FacetedSearchResponse;
+import com.example.jobportal.dto.JobQueryRequest;
 import com.example.jobportal.dto.JobResponse;
+import com.example.jobportal.dto.JobSummary;
+import com.example.jobportal.dto.PageResponse;
+import com.example.jobportal.dto.SuggestionResponse;
 import com.example.jobportal.dto.UpdateJobRequest;
 import com.example.jobportal.model.Job;
 import com.example.jobportal.model.Role;
 import com.example.jobportal.model.User;
 import com.example.jobportal.repository.JobRepository;
+import com.example.jobportal.repository.JobSpecifications;
+import com.example.jobportal.search.JobChangedEvent;
+import com.example.jobportal.search.JobDocument;
+import com.example.jobportal.search.Gazetteer;
+import com.example.jobportal.search.GeoHit;
+import com.example.jobportal.search.GeoPoint;
+import com.example.jobportal.search.JobFacetIndex;
+import com.example.jobportal.search.JobGeoIndex;
+import com.example.jobportal.search.JobIndexer;
+import com.example.jobportal.search.JobSalaryIndex;
+import com.example.jobportal.search.JobSearchIndex;
+import com.example.jobportal.search.JobSuggestIndex;
+import com.example.jobportal.search.JobTokenizer;
+import com.example.jobportal.search.SearchHit;
+import com.example.jobportal.search.SearchStrategy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -26,10 +70,63 @@ public class JobService {
     @Autowired
     private AuthService authService;
     
+    // Only built for the index search strategy
+    @Autowired(required = false)
+    private JobSearchIndex jobSearchIndex;
+    
+    @Autowired
+    private JobSuggestIndex jobSuggestIndex;
+    
+    @Autowired
+    private JobFacetIndex jobFacetIndex;
+    
+    @Autowired
+    private JobSalaryIndex jobSalaryIndex;
+    
+    @Autowired
+    private JobGeoIndex jobGeoIndex;
+    
+    @Autowired
+    private Gazetteer gazetteer;
+    
+    @Autowired
+    private JobQueryCache jobQueryCache;
+    
+    @Autowired
+    private JobIndexer jobIndexer;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${jobportal.search.strategy:index}")
+    private SearchStrategy searchStrategy = SearchStrategy.INDEX;
+    
+    @Value("${jobportal.search.fulltext-mode:natural}")
+    private String fullTextMode = "natural";
+    
+    // Upper bound on ids per IN query when loading index hits
+    private static final int HYDRATE_BATCH_SIZE = 1000;
+    
+    private static final int MAX_RANKED_RESULTS = 100;
+    
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    // Most common values returned per facet
+    private static final int MAX_FACET_VALUES = 20;
+    
+    // Rows written between persistence context clears during an export
+    private static final int EXPORT_BATCH_SIZE = 500;
+    
     public JobResponse createJob(CreateJobRequest request) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_PROVIDER) {
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
             throw new RuntimeException("Only Job Providers can create job postings");
         }
         
@@ -38,13 +135,15 @@ public class JobService {
         job.setSalary(request.getSalary());
         job.setJobType(request.getJobType());
         job.setExperienceLevel(request.getExperienceLevel());
+        geocode(job);
         
         Job savedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(JobDocument.from(savedJob)));
         return new JobResponse(savedJob);
     }
     
     public JobResponse updateJob(Long jobId, UpdateJobRequest request) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
         Optional<Job> jobOpt = jobRepository.findById(jobId);
         if (jobOpt.isEmpty()) {
@@ -66,17 +165,19 @@ public class JobService {
         job.setSalary(request.getSalary());
         job.setJobType(request.getJobType());
         job.setExperienceLevel(request.getExperienceLevel());
+        geocode(job);
         
         if (request.getIsActive() != null) {
             job.setIsActive(request.getIsActive());
         }
         
         Job updatedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(JobDocument.from(updatedJob)));
         return new JobResponse(updatedJob);
     }
     
     public void deleteJob(Long jobId) {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
         Optional<Job> jobOpt = jobRepository.findById(jobId);
         if (jobOpt.isEmpty()) {
@@ -93,12 +194,13 @@ public class JobService {
         // Soft delete by setting isActive to false
         job.setIsActive(false);
         jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(JobDocument.from(job)));
     }
     
     public List<JobResponse> getMyJobs() {
-        User currentUser = authService.getCurrentUser();
+        User currentUser = authService.getCurrentUserReference();
         
-        if (currentUser.getRole() != Role.JOB_PROVIDER) {
+        if (authService.getCurrentRole() != Role.JOB_PROVIDER) {
             throw new RuntimeException("Only Job Providers can view their job postings");
         }
         
@@ -108,11 +210,43 @@ public class JobService {
                    .collect(Collectors.toList());
     }
     
-    public List<JobResponse> getActiveJobs() {
-        List<Job> jobs = jobRepository.findByIsActiveTrueOrderByCreatedAtDesc();
-        return jobs.stream()
-                   .map(JobResponse::new)
-                   .collect(Collectors.toList());
+    /**
+     * Write every active job to the stream as newline-delimited JSON, one job per line in id order.
+     * Rows are read through a database cursor and detached in batches, so memory use does not grow with the catalogue.
+     */
+    @Transactional(readOnly = true)
+    public long exportActiveJobs(OutputStream out) {
+        long count = 0;
+        try (Stream<Job> jobs = jobRepository.streamActiveJobs()) {
+            for (Job job : (Iterable<Job>) jobs::iterator) {
+                out.write(objectMapper.writeValueAsBytes(new JobResponse(job)));
+                out.write('\n');
+                if (++count % EXPORT_BATCH_SIZE == 0) {
+                    entityManager.clear();
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            // Usually the client went away; stop reading rows
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+    
+    /**
+     * One page of active jobs, newest first, starting after the cursor (first page when blank)
+     */
+    public CursorPage<JobSummary> getActiveJobsPage(String cursor, int size) {
+        int cappedSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        
+        // One extra row tells whether there is a next page; the first page, which every client reads, is cached per size
+        List<JobSummary> jobs = after == null
+                ? jobQueryCache.get(JobQueryCache.Kind.ACTIVE, String.valueOf(cappedSize + 1),
+                        rows -> jobRepository.findActiveSummariesFirstPage(Limit.of(Integer.parseInt(rows))), JobSummary::getId)
+                : jobRepository.findActiveSummariesAfter(after.getTimestamp(), after.getId(), Limit.of(cappedSize + 1));
+        return KeysetCursor.page(jobs, cappedSize, JobSummary::getCreatedAt, JobSummary::getId, Function.identity());
     }
     
     public JobResponse getJobById(Long jobId) {
@@ -130,35 +264,363 @@ public class JobService {
     }
     
     public List<JobResponse> searchJobs(String keyword) {
-        List<Job> jobs = jobRepository.searchActiveJobs(keyword);
-        return jobs.stream()
-                   .map(JobResponse::new)
-                   .collect(Collectors.toList());
+        return jobQueryCache.get(JobQueryCache.Kind.SEARCH, keyword, normalized -> searchJobs(normalized, false));
     }
     
-    public List<JobResponse> getJobsByLocation(String location) {
-        List<Job> jobs = jobRepository.findByLocationIgnoreCaseContainingAndIsActiveTrueOrderByCreatedAtDesc(location);
-        return jobs.stream()
-                   .map(JobResponse::new)
-                   .collect(Collectors.toList());
+    /**
+     * Keyword search that tolerates one or two typos per term, e.g. "Banglore" or "javascirpt"
+     */
+    public List<JobResponse> searchJobsFuzzy(String keyword) {
+        return searchJobs(keyword, true);
     }
     
-    public List<JobResponse> getJobsByType(String jobType) {
-        List<Job> jobs = jobRepository.findByJobTypeAndIsActiveTrueOrderByCreatedAtDesc(jobType);
+    private List<JobResponse> searchJobs(String keyword, boolean fuzzy) {
+        List<String> terms = JobTokenizer.tokenize(keyword);
+        List<Job> jobs;
+        if (searchStrategy == SearchStrategy.INDEX && jobIndexer.isReady() && !terms.isEmpty()) {
+            jobs = findActiveJobsById(jobSearchIndex.search(keyword, fuzzy));
+        } else if (searchStrategy == SearchStrategy.FULLTEXT && !terms.isEmpty()) {
+            jobs = fullTextSearch(keyword, terms);
+        } else {
+            // LIKE strategy, index still loading, or a keyword with no searchable terms
+            jobs = jobRepository.searchActiveJobs(keyword);
+        }
         return jobs.stream()
                    .map(JobResponse::new)
                    .collect(Collectors.toList());
     }
     
-    public List<JobResponse> getJobsByExperienceLevel(String experienceLevel) {
-        List<Job> jobs = jobRepository.findByExperienceLevelAndIsActiveTrueOrderByCreatedAtDesc(experienceLevel);
+    /**
+     * Top matches for the keyword ordered by BM25 relevance, each carrying its score
+     */
+    public List<JobResponse> searchJobsRanked(String keyword, int limit, boolean fuzzy) {
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_RANKED_RESULTS));
+        
+        if (searchStrategy != SearchStrategy.INDEX || !jobIndexer.isReady() || JobTokenizer.tokenize(keyword).isEmpty()) {
+            // Nothing to rank against, keep the unranked contract but honour the limit
+            List<JobResponse> jobs = searchJobs(keyword, fuzzy);
+            return jobs.subList(0, Math.min(cappedLimit, jobs.size()));
+        }
+        
+        List<SearchHit> hits = jobSearchIndex.searchRanked(keyword, cappedLimit, fuzzy);
+        List<Long> ids = hits.stream().map(SearchHit::getJobId).collect(Collectors.toList());
+        Map<Long, Job> jobsById = findActiveJobsById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, job -> job));
+        
+        List<JobResponse> responses = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            Job job = jobsById.get(hit.getJobId());
+            if (job != null) {
+                JobResponse response = new JobResponse(job);
+                response.setScore(hit.getScore());
+                responses.add(response);
+            }
+        }
+        return responses;
+    }
+    
+    /**
+     * Keyword search with jobType, experienceLevel and location counts over the whole match set,
+     * taken from the facet index instead of one query per facet. A blank keyword facets every active job.
+     * Only the newest limit jobs are returned, and the most common values of each facet.
+     */
+    public FacetedSearchResponse searchJobsWithFacets(String keyword, int limit) {
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        boolean allJobs = keyword == null || JobTokenizer.tokenize(keyword).isEmpty();
+        
+        if (!jobIndexer.isReady() || (!allJobs && jobSearchIndex == null)) {
+            List<Job> jobs = allJobs
+                    ? jobRepository.findByIsActiveTrueOrderByCreatedAtDesc()
+                    : jobRepository.searchActiveJobs(keyword);
+            
+            // Count the rows already loaded rather than querying again
+            JobFacetIndex loaded = new JobFacetIndex();
+            jobs.forEach(job -> loaded.index(JobDocument.from(job)));
+            return new FacetedSearchResponse(toResponses(jobs.subList(0, Math.min(cappedLimit, jobs.size()))),
+                    loaded.count(loaded.activeIds(), MAX_FACET_VALUES));
+        }
+        
+        BitSet ids = allJobs ? jobFacetIndex.activeIds() : jobSearchIndex.matchingIds(keyword);
+        List<Long> newest = JobSearchIndex.newestFirst(ids);
+        List<Job> jobs = findActiveJobsById(newest.subList(0, Math.min(cappedLimit, newest.size())));
+        return new FacetedSearchResponse(toResponses(jobs), jobFacetIndex.count(ids, MAX_FACET_VALUES));
+    }
+    
+    /**
+     * Typeahead completions over titles, companies and locations, served from memory.
+     * SUPPORTS keeps the class-level transaction from grabbing a connection per keystroke.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        int cappedLimit = Math.max(1, Math.min(limit, JobSuggestIndex.MAX_SUGGESTIONS));
+        return jobSuggestIndex.suggest(prefix, cappedLimit);
+    }
+    
+    /**
+     * Any combination of keyword, location, type, level, salary range and creation date,
+     * run as one SQL statement that returns only the requested page
+     */
+    public PageResponse<JobResponse> queryJobs(JobQueryRequest request) {
+        if (request.getMinSalary() != null && request.getMaxSalary() != null
+                && request.getMinSalary().compareTo(request.getMaxSalary()) > 0) {
+            throw new RuntimeException("minSalary cannot be greater than maxSalary");
+        }
+        
+        Specification<Job> spec = JobSpecifications.isActive();
+        if (hasText(request.getKeyword())) {
+            spec = spec.and(JobSpecifications.keywordMatches(request.getKeyword().trim()));
+        }
+        if (hasText(request.getLocation())) {
+            spec = spec.and(JobSpecifications.locationContains(request.getLocation().trim()));
+        }
+        if (hasText(request.getJobType())) {
+            spec = spec.and(JobSpecifications.hasJobType(request.getJobType()));
+        }
+        if (hasText(request.getExperienceLevel())) {
+            spec = spec.and(JobSpecifications.hasExperienceLevel(request.getExperienceLevel()));
+        }
+        if (request.getMinSalary() != null) {
+            spec = spec.and(JobSpecifications.salaryAtLeast(request.getMinSalary()));
+        }
+        if (request.getMaxSalary() != null) {
+            spec = spec.and(JobSpecifications.salaryAtMost(request.getMaxSalary()));
+        }
+        if (request.getCreatedAfter() != null) {
+            spec = spec.and(JobSpecifications.createdAfter(request.getCreatedAfter()));
+        }
+        
+        int size = Math.max(1, Math.min(request.getSize(), MAX_PAGE_SIZE));
+        PageRequest pageRequest = PageRequest.of(Math.max(0, request.getPage()), size, toSort(request.getSort()));
+        
+        Page<JobResponse> page = jobRepository.findAll(spec, pageRequest).map(JobResponse::new);
+        return new PageResponse<>(page);
+    }
+    
+    /**
+     * Jobs paying between minSalary and maxSalary, narrowed by keyword, location, type and level.
+     * The filtering runs on the in-memory indexes and only the requested page is loaded;
+     * until the indexes are ready, with a creation date filter, or with a keyword under a search strategy
+     * other than index, it runs as {@link #queryJobs}.
+     */
+    public PageResponse<JobResponse> searchJobsBySalary(JobQueryRequest request) {
+        BigDecimal min = request.getMinSalary();
+        BigDecimal max = request.getMaxSalary();
+        if (min == null && max == null) {
+            throw new RuntimeException("minSalary or maxSalary is required");
+        }
+        boolean keyword = hasText(request.getKeyword()) && !JobTokenizer.tokenize(request.getKeyword()).isEmpty();
+        if (!jobIndexer.isReady() || request.getCreatedAfter() != null || (keyword && jobSearchIndex == null)) {
+            return queryJobs(request);
+        }
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new RuntimeException("minSalary cannot be greater than maxSalary");
+        }
+        
+        BitSet ids = jobSalaryIndex.idsInRange(min, max);
+        if (keyword) {
+            ids.and(jobSearchIndex.matchingIds(request.getKeyword()));
+        }
+        if (hasText(request.getLocation())) {
+            ids.and(jobFacetIndex.idsWithValueContaining(JobFacetIndex.LOCATION, request.getLocation()));
+        }
+        if (hasText(request.getJobType())) {
+            ids.and(jobFacetIndex.idsWithValue(JobFacetIndex.JOB_TYPE, request.getJobType()));
+        }
+        if (hasText(request.getExperienceLevel())) {
+            ids.and(jobFacetIndex.idsWithValue(JobFacetIndex.EXPERIENCE_LEVEL, request.getExperienceLevel()));
+        }
+        
+        int size = Math.max(1, Math.min(request.getSize(), MAX_PAGE_SIZE));
+        int page = Math.max(0, request.getPage());
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        String sort = request.getSort() != null ? request.getSort().toLowerCase() : "newest";
+        
+        List<Long> pageIds;
+        switch (sort) {
+            case "newest":
+            case "oldest":
+                pageIds = pageById(ids, "newest".equals(sort), offset, size);
+                break;
+            case "salary_asc":
+            case "salary_desc":
+                pageIds = jobSalaryIndex.pageBySalary(ids, min, max, "salary_desc".equals(sort), offset, size);
+                break;
+            default:
+                throw new RuntimeException("Unsupported sort: " + request.getSort());
+        }
+        
+        return new PageResponse<>(toResponses(findActiveJobsById(pageIds)), page, size, ids.cardinality());
+    }
+    
+    /**
+     * Jobs within radiusKm of a place name (resolved through the gazetteer, so "Bay Area" works)
+     * or of explicit coordinates, nearest first, each carrying its distance
+     */
+    public List<JobResponse> searchJobsNearby(String location, Double latitude, Double longitude,
+                                              double radiusKm, int limit) {
+        GeoPoint center;
+        if (latitude != null && longitude != null) {
+            center = new GeoPoint(latitude, longitude);
+        } else if (hasText(location)) {
+            center = gazetteer.geocode(location);
+            if (center == null) {
+                throw new RuntimeException("Unknown location: " + location);
+            }
+        } else {
+            throw new RuntimeException("Either location or latitude and longitude are required");
+        }
+        if (radiusKm <= 0) {
+            throw new RuntimeException("radiusKm must be positive");
+        }
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        
+        List<GeoHit> hits;
+        if (jobIndexer.isReady()) {
+            hits = jobGeoIndex.nearby(center, radiusKm);
+        } else {
+            // Same filter over the stored coordinates until the grid is loaded
+            JobGeoIndex loaded = new JobGeoIndex();
+            jobRepository.findByIsActiveTrueOrderByCreatedAtDesc()
+                         .forEach(job -> loaded.index(JobDocument.from(job)));
+            hits = loaded.nearby(center, radiusKm);
+        }
+        hits = hits.subList(0, Math.min(cappedLimit, hits.size()));
+        
+        List<Long> ids = hits.stream().map(GeoHit::getJobId).collect(Collectors.toList());
+        Map<Long, Job> jobsById = findActiveJobsById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, job -> job));
+        
+        List<JobResponse> responses = new ArrayList<>(hits.size());
+        for (GeoHit hit : hits) {
+            Job job = jobsById.get(hit.getJobId());
+            if (job != null) {
+                JobResponse response = new JobResponse(job);
+                response.setDistanceKm(Math.round(hit.getDistanceKm() * 10) / 10.0);
+                responses.add(response);
+            }
+        }
+        return responses;
+    }
+    
+    public List<JobSummary> getJobsByLocation(String location) {
+        return jobQueryCache.get(JobQueryCache.Kind.LOCATION, location,
+                normalized -> jobRepository.findActiveSummariesByLocation(JobSpecifications.containsPattern(normalized)),
+                JobSummary::getId);
+    }
+    
+    public List<JobSummary> getJobsByType(String jobType) {
+        return jobQueryCache.get(JobQueryCache.Kind.TYPE, jobType,
+                jobRepository::findActiveSummariesByJobType, JobSummary::getId);
+    }
+    
+    public List<JobSummary> getJobsByExperienceLevel(String experienceLevel) {
+        return jobQueryCache.get(JobQueryCache.Kind.LEVEL, experienceLevel,
+                jobRepository::findActiveSummariesByExperienceLevel, JobSummary::getId);
+    }
+    
+    public Long getMyJobsCount() {
+        User currentUser = authService.getCurrentUserReference();
+        return jobRepository.countByCreatedByAndIsActiveTrue(currentUser);
+    }
+    
+    private Sort toSort(String sort) {
+        if (sort == null) {
+            sort = "newest";
+        }
+        switch (sort.toLowerCase()) {
+            case "newest":
+                return Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+            case "oldest":
+                return Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+            case "salary_asc":
+                return Sort.by(Sort.Order.asc("salary"), Sort.Order.desc("id"));
+            case "salary_desc":
+                return Sort.by(Sort.Order.desc("salary"), Sort.Order.desc("id"));
+            default:
+                throw new RuntimeException("Unsupported sort: " + sort);
+        }
+    }
+    
+    /**
+     * One page of the ids in the bitset, highest (newest) or lowest id first
+     */
+    private static List<Long> pageById(BitSet ids, boolean newestFirst, int offset, int limit) {
+        List<Long> page = new ArrayList<>(limit);
+        int skipped = 0;
+        int id = newestFirst ? ids.previousSetBit(ids.length() - 1) : ids.nextSetBit(0);
+        while (id >= 0 && page.size() < limit) {
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add((long) id);
+            }
+            id = newestFirst ? ids.previousSetBit(id - 1) : ids.nextSetBit(id + 1);
+        }
+        return page;
+    }
+    
+    /**
+     * Store the gazetteer coordinates of the job's location, or clear them when it is not a known place
+     */
+    private void geocode(Job job) {
+        GeoPoint point = gazetteer.geocode(job.getLocation());
+        job.setLatitude(point != null ? point.getLatitude() : null);
+        job.setLongitude(point != null ? point.getLongitude() : null);
+        job.setGeocodedAt(LocalDateTime.now());
+    }
+    
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * MATCH ... AGAINST over the FULLTEXT index. Boolean mode requires every term as a prefix, like the
+     * in-memory index; terms below InnoDB's default minimum token size of 3 are not indexed by MySQL,
+     * so a keyword made only of those falls back to LIKE.
+     */
+    private List<Job> fullTextSearch(String keyword, List<String> terms) {
+        if (!"boolean".equalsIgnoreCase(fullTextMode)) {
+            return jobRepository.fullTextSearch(keyword);
+        }
+
+        StringBuilder query = new StringBuilder();
+        for (String term : terms) {
+            if (term.length() >= 3) {
+                query.append(query.length() > 0 ? " +" : "+").append(term).append('*');
+            }
+        }
+        if (query.length() == 0) {
+            return jobRepository.searchActiveJobs(keyword);
+        }
+        return jobRepository.fullTextSearchBoolean(query.toString());
+    }
+    
+    private List<JobResponse> toResponses(List<Job> jobs) {
         return jobs.stream()
                    .map(JobResponse::new)
                    .collect(Collectors.toList());
     }
     
-    public Long getMyJobsCount() {
-        User currentUser = authService.getCurrentUser();
-        return jobRepository.countByCreatedByAndIsActiveTrue(currentUser);
+    /**
+     * Load index hits from the database in batches, keeping the index order
+     * and dropping jobs deactivated since they were indexed
+     */
+    private List<Job> findActiveJobsById(List<Long> ids) {
+        Map<Long, Job> jobsById = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += HYDRATE_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + HYDRATE_BATCH_SIZE, ids.size()));
+            for (Job job : jobRepository.findAllById(batch)) {
+                jobsById.put(job.getId(), job);
+            }
+        }
+        
+        List<Job> jobs = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Job job = jobsById.get(id);
+            if (job != null && Boolean.TRUE.equals(job.getIsActive())) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
     }
 }
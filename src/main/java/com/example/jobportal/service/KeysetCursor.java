@@ -0,0 +1,83 @@
+package com.example.jobportal.service;
+
+import com.example.jobportal.dto.CursorPage;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Position in a list ordered by (timestamp DESC, id DESC), passed to clients as an opaque
+ * URL-safe token. The next page is the rows strictly after it, so a deep page costs an index
+ * seek rather than skipping OFFSET rows.
+ */
+public final class KeysetCursor {
+
+    private final LocalDateTime timestamp;
+    private final long id;
+
+    public KeysetCursor(LocalDateTime timestamp, long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    /**
+     * Page of {@code size} rows from a query that fetched up to {@code size + 1}; the extra row
+     * only signals that there is a next page, whose cursor is the last row returned
+     */
+    public static <E, R> CursorPage<R> page(List<E> rows, int size, Function<E, LocalDateTime> timestamp,
+                                            ToLongFunction<E> id, Function<E, R> mapper) {
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            E last = rows.get(size - 1);
+            nextCursor = new KeysetCursor(timestamp.apply(last), id.applyAsLong(last)).encode();
+        }
+        List<R> content = rows.stream().map(mapper).collect(Collectors.toList());
+        return new CursorPage<>(content, size, nextCursor);
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+        buffer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + timestamp.getNano() / 1_000);
+        buffer.putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * The cursor in the token, or null for a blank token (first page)
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token.trim());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+        if (bytes.length != 2 * Long.BYTES) {
+            throw new RuntimeException("Invalid cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long micros = buffer.getLong();
+        long id = buffer.getLong();
+        LocalDateTime timestamp = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+        return new KeysetCursor(timestamp, id);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.jobportal.service;
+
+import com.example.jobportal.repository.TaskLeaseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Leases in task_leases that let a scheduled task, which fires on every instance, run on only one of them per period
+ */
+@Service
+public class TaskLeaseService {
+    
+    @Autowired
+    private TaskLeaseRepository taskLeaseRepository;
+    
+    /**
+     * Take the named lease for the given duration unless another instance holds it; true when taken.
+     * Committed on its own, so other instances see it while the task is still running.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        taskLeaseRepository.createIfAbsent(name, now.minus(duration));
+        return taskLeaseRepository.acquire(name, now, now.plus(duration)) == 1;
+    }
+}
@@ -0,0 +1,7 @@
+-- One application per job and applicant (uk_applications_job_applicant), which JobApplicationService relies on
+-- to reject duplicate applications. Hibernate's schema update cannot add it while duplicates exist, so
+-- ApplicationUniqueConstraintMigration runs this at startup when the constraint is missing; it can also be run by hand.
+-- The earliest application of each pair is kept; the counter reconciliation then corrects the application counts.
+DELETE dup FROM job_applications dup
+JOIN job_applications kept ON kept.job_id = dup.job_id AND kept.applicant_id = dup.applicant_id AND kept.id < dup.id;
+ALTER TABLE job_applications ADD CONSTRAINT uk_applications_job_applicant UNIQUE (job_id, applicant_id)
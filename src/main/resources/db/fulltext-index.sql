@@ -0,0 +1,3 @@
+-- FULLTEXT index behind jobportal.search.strategy=fulltext (JobRepository.fullTextSearch*).
+-- Applied at startup by FullTextIndexMigration when missing; can also be run by hand once the jobs table exists.
+ALTER TABLE jobs ADD FULLTEXT INDEX ft_jobs_search (title, description, company, location)
@@ -0,0 +1,149 @@
+package com.example.jobportal.benchmark;
+
+import com.example.jobportal.JobPortalBackendApplication;
+import com.example.jobportal.model.Job;
+import com.example.jobportal.model.JobApplication;
+import com.example.jobportal.model.Role;
+import com.example.jobportal.model.User;
+import com.example.jobportal.repository.JobApplicationRepository;
+import com.example.jobportal.repository.JobRepository;
+import com.example.jobportal.repository.UserRepository;
+import com.example.jobportal.security.JwtUtils;
+import com.example.jobportal.service.ApplicationCounterService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * An authenticated request (the seeker's application count) carrying a subject-only token, which makes the
+ * JWT filter load the user by email, against a token whose claims carry id, role and token version.
+ * The statements counter is the number of SQL statements prepared per request.
+ *
+ * mvn -Pbenchmark -DskipTests test -Dbenchmark=AuthenticationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class AuthenticationBenchmark {
+
+    @Param({"10000"})
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private Statistics statistics;
+    private String subjectOnlyToken;
+    private String claimsToken;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // The security filter and services log every request to stdout
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        context = new SpringApplicationBuilder(JobPortalBackendApplication.class)
+                // Arguments, so they override application.properties
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:auth-bench;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--spring.devtools.restart.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--jobportal.app.jwtSecret=benchmark-secret-benchmark-secret-benchmark-secret-0123456789",
+                        "--jobportal.search.snapshot.path=",
+                        "--jobportal.counters.reconcile-initial-delay-ms=3600000");
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JobRepository jobRepository = context.getBean(JobRepository.class);
+        JobApplicationRepository jobApplicationRepository = context.getBean(JobApplicationRepository.class);
+        JwtUtils jwtUtils = context.getBean(JwtUtils.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        // A realistically sized users table behind the lookup by email
+        List<User> all = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            all.add(new User("User", "No" + i, "user" + i + "@example.com", "password",
+                    i == 0 ? Role.JOB_PROVIDER : Role.JOB_SEEKER));
+        }
+        all = userRepository.saveAll(all);
+        User seeker = all.get(users / 2);
+
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            jobs.add(new Job("Job " + i, "Description", "Tech Corp", "Pune", all.get(0)));
+        }
+        for (Job job : jobRepository.saveAll(jobs)) {
+            jobApplicationRepository.save(new JobApplication(job, seeker));
+        }
+        context.getBean(ApplicationCounterService.class).reconcile();
+
+        subjectOnlyToken = jwtUtils.generateTokenFromUsername(seeker.getEmail());
+        claimsToken = jwtUtils.generateTokenForUser(seeker);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse subjectOnlyToken(Counters counters) throws Exception {
+        return request(subjectOnlyToken, counters);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse claimsToken(Counters counters) throws Exception {
+        return request(claimsToken, counters);
+    }
+
+    private MockHttpServletResponse request(String token, Counters counters) throws Exception {
+        long before = statistics.getPrepareStatementCount();
+        MockHttpServletResponse response = mockMvc.perform(get("/api/job-seeker/applications/count")
+                        .header("Authorization", "Bearer " + token))
+                .andReturn()
+                .getResponse();
+        if (response.getStatus() != 200) {
+            throw new IllegalStateException("Request failed with status " + response.getStatus());
+        }
+        counters.statements += statistics.getPrepareStatementCount() - before;
+        return response;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.jobportal.benchmark;
+
+import com.example.jobportal.JobPortalBackendApplication;
+import com.example.jobportal.dto.JobResponse;
+import com.example.jobportal.dto.JobSummary;
+import com.example.jobportal.model.Job;
+import com.example.jobportal.model.Role;
+import com.example.jobportal.model.User;
+import com.example.jobportal.repository.JobRepository;
+import com.example.jobportal.repository.UserRepository;
+import com.example.jobportal.search.JobDocument;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The public job list: full Job entities mapped to JobResponse (description included, provider loaded lazily
+ * once per distinct provider) against the JobSummary constructor projection. The bytes counter is the size
+ * of the JSON response, the statements counter the number of SQL statements prepared; each invocation is one request.
+ *
+ * mvn -Pbenchmark -DskipTests test -Dbenchmark=JobListingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class JobListingBenchmark {
+
+    @Param({"2000"})
+    public int jobs;
+
+    @Param({"50"})
+    public int providers;
+
+    private ConfigurableApplicationContext context;
+    private JobRepository jobRepository;
+    private TransactionTemplate transactionTemplate;
+    private ObjectMapper objectMapper;
+    private Statistics statistics;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long bytes;
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            statements = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(JobPortalBackendApplication.class)
+                // Arguments, so they override application.properties
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:listing-bench;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--spring.devtools.restart.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.security=WARN",
+                        "--logging.level.org.springframework.web=WARN",
+                        "--jobportal.app.jwtSecret=benchmark-secret-benchmark-secret-benchmark-secret-0123456789",
+                        "--jobportal.search.snapshot.path=");
+        jobRepository = context.getBean(JobRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        List<User> users = new ArrayList<>(providers);
+        for (int i = 0; i < providers; i++) {
+            users.add(new User("Provider", "No" + i, "provider" + i + "@example.com", "password", Role.JOB_PROVIDER));
+        }
+        users = userRepository.saveAll(users);
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Job> entities = new ArrayList<>(jobs);
+        for (int id = 1; id <= jobs; id++) {
+            JobDocument document = JobSearchBenchmark.randomJob(random, id, now);
+            // Listings in production carry descriptions of several hundred words
+            StringBuilder description = new StringBuilder();
+            for (int w = 0; w < 200; w++) {
+                description.append(JobSearchBenchmark.WORDS[random.nextInt(JobSearchBenchmark.WORDS.length)]).append(' ');
+            }
+            Job job = new Job(document.getTitle(), description.substring(0, Math.min(2000, description.length())),
+                    document.getCompany(), document.getLocation(), users.get(random.nextInt(providers)));
+            job.setJobType(document.getJobType());
+            job.setExperienceLevel(document.getExperienceLevel());
+            entities.add(job);
+        }
+        jobRepository.saveAll(entities);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void entities(Counters counters, Blackhole blackhole) throws JsonProcessingException {
+        long before = statistics.getPrepareStatementCount();
+        List<JobResponse> responses = transactionTemplate.execute(status ->
+                jobRepository.findByIsActiveTrueOrderByCreatedAtDesc().stream()
+                             .map(JobResponse::new)
+                             .collect(Collectors.toList()));
+        byte[] json = objectMapper.writeValueAsBytes(responses);
+        counters.statements += statistics.getPrepareStatementCount() - before;
+        counters.bytes += json.length;
+        blackhole.consume(json);
+    }
+
+    @Benchmark
+    public void summaries(Counters counters, Blackhole blackhole) throws JsonProcessingException {
+        long before = statistics.getPrepareStatementCount();
+        List<JobSummary> summaries = transactionTemplate.execute(status -> jobRepository.findActiveSummaries());
+        byte[] json = objectMapper.writeValueAsBytes(summaries);
+        counters.statements += statistics.getPrepareStatementCount() - before;
+        counters.bytes += json.length;
+        blackhole.consume(json);
+    }
+}
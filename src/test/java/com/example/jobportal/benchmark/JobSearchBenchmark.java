@@ -0,0 +1,139 @@
+package com.example.jobportal.benchmark;
+
+import com.example.jobportal.search.JobDocument;
+import com.example.jobportal.search.JobSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public keyword search: the in-memory inverted index against the LIKE query from
+ * {@code JobRepository.searchActiveJobs}, run on H2 in MySQL mode over the same synthetic jobs.
+ *
+ * mvn -Pbenchmark -DskipTests test -Dbenchmark=JobSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class JobSearchBenchmark {
+
+    static final String[] TITLES = {
+            "Java Developer", "Frontend Engineer", "Data Scientist", "DevOps Engineer", "Product Manager",
+            "QA Analyst", "Backend Engineer", "Mobile Developer", "Security Engineer", "Technical Writer"
+    };
+    static final String[] COMPANIES = {
+            "Tech Corp", "Web Co", "DataWorks", "CloudNine", "Initech", "Globex", "Umbrella", "Hooli"
+    };
+    static final String[] LOCATIONS = {
+            "Bangalore", "Hyderabad", "Pune", "San Francisco, CA", "New York, NY", "London", "Berlin", "Remote"
+    };
+    static final String[] WORDS = {
+            "build", "scalable", "services", "team", "customers", "cloud", "spring", "react", "kubernetes",
+            "python", "analytics", "pipeline", "design", "testing", "agile", "mentor", "architecture",
+            "database", "performance", "security", "api", "microservices", "experience", "ownership",
+            "collaborate", "deliver", "product", "mobile", "platform", "infrastructure", "monitoring"
+    };
+    static final String[] KEYWORDS = {"java", "engineer", "kubernetes", "bangalore", "hooli", "monitoring"};
+
+    static final String LIKE_QUERY = "SELECT * FROM jobs j WHERE j.is_active = true AND ("
+            + "LOWER(j.title) LIKE LOWER(CONCAT('%', ?, '%')) OR "
+            + "LOWER(j.description) LIKE LOWER(CONCAT('%', ?, '%')) OR "
+            + "LOWER(j.company) LIKE LOWER(CONCAT('%', ?, '%')) OR "
+            + "LOWER(j.location) LIKE LOWER(CONCAT('%', ?, '%')))";
+
+    @Param({"100000", "1000000"})
+    public int jobs;
+
+    private JobSearchIndex index;
+    private Connection connection;
+    private PreparedStatement likeStatement;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        index = new JobSearchIndex();
+        connection = DriverManager.getConnection("jdbc:h2:mem:search-bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS jobs");
+            ddl.execute("CREATE TABLE jobs (id BIGINT PRIMARY KEY, title VARCHAR(100), description VARCHAR(2000),"
+                    + " company VARCHAR(100), location VARCHAR(100), is_active BOOLEAN, created_at TIMESTAMP)");
+        }
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO jobs VALUES (?, ?, ?, ?, ?, true, ?)")) {
+            for (int id = 1; id <= jobs; id++) {
+                JobDocument document = randomJob(random, id, now);
+                index.index(document);
+
+                insert.setLong(1, id);
+                insert.setString(2, document.getTitle());
+                insert.setString(3, document.getDescription());
+                insert.setString(4, document.getCompany());
+                insert.setString(5, document.getLocation());
+                insert.setTimestamp(6, Timestamp.valueOf(document.getCreatedAt()));
+                insert.addBatch();
+                if (id % 5000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        likeStatement = connection.prepareStatement(LIKE_QUERY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        likeStatement.close();
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE jobs");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void invertedIndex(Blackhole blackhole) {
+        blackhole.consume(index.search(nextKeyword()));
+    }
+
+    @Benchmark
+    public void likeQuery(Blackhole blackhole) throws SQLException {
+        String keyword = nextKeyword();
+        for (int i = 1; i <= 4; i++) {
+            likeStatement.setString(i, keyword);
+        }
+        try (ResultSet rs = likeStatement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1));
+            }
+        }
+    }
+
+    private String nextKeyword() {
+        return KEYWORDS[next++ % KEYWORDS.length];
+    }
+
+    static JobDocument randomJob(Random random, long id, LocalDateTime now) {
+        StringBuilder description = new StringBuilder();
+        for (int w = 0; w < 40; w++) {
+            description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return new JobDocument(id, TITLES[random.nextInt(TITLES.length)], description.toString(),
+                COMPANIES[random.nextInt(COMPANIES.length)], LOCATIONS[random.nextInt(LOCATIONS.length)],
+                "FULL_TIME", "MID", null, now.minusMinutes(id), null, true);
+    }
+}
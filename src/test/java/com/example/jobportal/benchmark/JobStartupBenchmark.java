@@ -0,0 +1,194 @@
+package com.example.jobportal.benchmark;
+
+import com.example.jobportal.search.IndexedJob;
+import com.example.jobportal.search.JobDocument;
+import com.example.jobportal.search.JobFacetIndex;
+import com.example.jobportal.search.JobIndex;
+import com.example.jobportal.search.JobSalaryIndex;
+import com.example.jobportal.search.JobSearchIndex;
+import com.example.jobportal.search.JobSnapshotStore;
+import com.example.jobportal.search.JobSuggestIndex;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Index startup: a cold rebuild reading every active job from the database against restoring the
+ * memory-mapped snapshot and replaying the 1% of jobs changed since it was taken. Each invocation
+ * is one startup; the rowsRead counter is the number of job rows read from the database.
+ * The database is reached through H2's TCP server so rows cross a socket as they would from MySQL.
+ *
+ * mvn -Pbenchmark -DskipTests test -Dbenchmark=JobStartupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class JobStartupBenchmark {
+
+    private static final String COLUMNS = "id, title, description, company, location, job_type, experience_level,"
+            + " created_at, updated_at, is_active";
+
+    @Param({"100000"})
+    public int jobs;
+
+    private Server server;
+    private Connection connection;
+    private Path directory;
+    private JobSnapshotStore snapshotStore;
+    private LocalDateTime watermark;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long rowsRead;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rowsRead = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        connection = DriverManager.getConnection("jdbc:h2:tcp://localhost:" + server.getPort()
+                + "/mem:startup-bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS jobs");
+            ddl.execute("CREATE TABLE jobs (id BIGINT PRIMARY KEY, title VARCHAR(100), description VARCHAR(2000),"
+                    + " company VARCHAR(100), location VARCHAR(100), job_type VARCHAR(50), experience_level VARCHAR(50),"
+                    + " created_at TIMESTAMP, updated_at TIMESTAMP, is_active BOOLEAN)");
+            ddl.execute("CREATE INDEX idx_jobs_created ON jobs (created_at)");
+            ddl.execute("CREATE INDEX idx_jobs_updated ON jobs (updated_at)");
+        }
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<JobDocument> documents = new ArrayList<>(jobs);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO jobs (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, NULL, true)")) {
+            for (int id = 1; id <= jobs; id++) {
+                JobDocument document = JobSearchBenchmark.randomJob(random, id, now);
+                documents.add(document);
+                insert.setLong(1, id);
+                insert.setString(2, document.getTitle());
+                insert.setString(3, document.getDescription());
+                insert.setString(4, document.getCompany());
+                insert.setString(5, document.getLocation());
+                insert.setString(6, document.getJobType());
+                insert.setString(7, document.getExperienceLevel());
+                insert.setTimestamp(8, Timestamp.valueOf(document.getCreatedAt()));
+                insert.addBatch();
+                if (id % 5000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+
+        directory = Files.createTempDirectory("job-snapshot-bench");
+        snapshotStore = new JobSnapshotStore(directory.resolve("job-index.snapshot").toString());
+        watermark = now;
+        snapshotStore.save(watermark, documents.stream().map(IndexedJob::of).toList());
+
+        // 1% of the jobs change after the snapshot, a tenth of those are deactivated
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE jobs SET title = CONCAT(title, ' II'), updated_at = ?, is_active = ? WHERE id = ?")) {
+            for (int i = 0; i < jobs / 100; i++) {
+                update.setTimestamp(1, Timestamp.valueOf(watermark.plusSeconds(1)));
+                update.setBoolean(2, i % 10 != 0);
+                update.setLong(3, 1 + random.nextInt(jobs));
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE jobs");
+        }
+        connection.close();
+        server.stop();
+        Files.deleteIfExists(directory.resolve("job-index.snapshot"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void coldRebuild(Counters counters, Blackhole blackhole) throws SQLException {
+        List<JobIndex> indexes = newIndexes();
+        try (PreparedStatement query = connection.prepareStatement(
+                // randomJob dates older jobs earlier, so this is increasing id order, as JobIndexer applies them
+                "SELECT " + COLUMNS + " FROM jobs WHERE is_active = true ORDER BY created_at DESC")) {
+            counters.rowsRead += apply(query, indexes);
+        }
+        blackhole.consume(indexes);
+    }
+
+    @Benchmark
+    public void snapshotRestore(Counters counters, Blackhole blackhole) throws SQLException {
+        List<JobIndex> indexes = newIndexes();
+        JobSnapshotStore.Snapshot snapshot = snapshotStore.load();
+        for (IndexedJob job : snapshot.getJobs()) {
+            JobDocument document = job.toDocument();
+            for (JobIndex index : indexes) {
+                index.index(document);
+            }
+        }
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT " + COLUMNS + " FROM jobs WHERE created_at > ? OR updated_at > ?")) {
+            Timestamp since = Timestamp.valueOf(snapshot.getWatermark().minusMinutes(5));
+            query.setTimestamp(1, since);
+            query.setTimestamp(2, since);
+            counters.rowsRead += apply(query, indexes);
+        }
+        blackhole.consume(indexes);
+    }
+
+    private static List<JobIndex> newIndexes() {
+        return List.of(new JobSearchIndex(), new JobSuggestIndex(), new JobFacetIndex(), new JobSalaryIndex());
+    }
+
+    private static int apply(PreparedStatement query, List<JobIndex> indexes) throws SQLException {
+        int rows = 0;
+        query.setFetchSize(5000);
+        try (ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                rows++;
+                Timestamp updatedAt = rs.getTimestamp(9);
+                JobDocument document = new JobDocument(rs.getLong(1), rs.getString(2), rs.getString(3),
+                        rs.getString(4), rs.getString(5), rs.getString(6), rs.getString(7), null,
+                        rs.getTimestamp(8).toLocalDateTime(), updatedAt != null ? updatedAt.toLocalDateTime() : null,
+                        rs.getBoolean(10));
+                for (JobIndex index : indexes) {
+                    if (document.isActive()) {
+                        index.index(document);
+                    } else {
+                        index.remove(document.getId());
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.jobportal.benchmark;
+
+import com.example.jobportal.search.JobSuggestIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead latency distribution (see the p0.99 line of the output) with one job write
+ * every 100 lookups, so cached completions are regularly invalidated.
+ *
+ * mvn -Pbenchmark -DskipTests test -Dbenchmark=JobSuggestBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobSuggestBenchmark {
+
+    private static final String[] PREFIXES = {"j", "ja", "dev", "eng", "s", "san f", "b", "tech", "r", "da"};
+
+    @Param({"100000"})
+    public int jobs;
+
+    private JobSuggestIndex index;
+    private Random random;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new JobSuggestIndex();
+        random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        for (int id = 1; id <= jobs; id++) {
+            index.index(JobSearchBenchmark.randomJob(random, id, now));
+        }
+    }
+
+    @Benchmark
+    public void suggest(Blackhole blackhole) {
+        int n = next++;
+        if (n % 100 == 0) {
+            index.index(JobSearchBenchmark.randomJob(random, 1 + random.nextInt(jobs), LocalDateTime.now()));
+        }
+        blackhole.consume(index.suggest(PREFIXES[n % PREFIXES.length], 10));
+    }
+}
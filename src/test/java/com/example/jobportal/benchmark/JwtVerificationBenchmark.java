@@ -0,0 +1,76 @@
+package com.example.jobportal.benchmark;
+
+import com.example.jobportal.model.Role;
+import com.example.jobportal.model.User;
+import com.example.jobportal.security.JwtUtils;
+import com.example.jobportal.security.JwtVerifier;
+import com.example.jobportal.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token verification: deriving the key and building a parser on every call and parsing the token
+ * twice (validate, then read the subject), against JwtVerifier's prebuilt key and parser with a single parse,
+ * and against a hit in the VerifiedTokenCache (one SHA-256 of the token and a lookup).
+ *
+ * mvn -Pbenchmark -DskipTests test -Dbenchmark=JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private JwtVerifier verifier;
+    private VerifiedTokenCache cache;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        verifier = new JwtVerifier(SECRET);
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtVerifier", verifier);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3600000);
+
+        User user = new User("Sam", "Seeker", "sam@example.com", "password", Role.JOB_SEEKER);
+        user.setId(42L);
+        token = jwtUtils.generateTokenForUser(user);
+        cache = new VerifiedTokenCache(verifier, 10000, 3600000);
+        cache.verify(token);
+    }
+
+    @Benchmark
+    public String rebuildAndParseTwice() {
+        Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+            .build()
+            .parseSignedClaims(token);
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String verifyOnce() {
+        Claims claims = verifier.verify(token);
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String cachedVerify() {
+        Claims claims = cache.verify(token);
+        return claims.getSubject();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.jobportal.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class IdempotencyFilterTest {
+
+    private IdempotencyFilter filter;
+
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(100, 60);
+        executions = new AtomicInteger();
+        signIn("sam@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testRetry_ReplaysTheFirstResponse() throws Exception {
+        MockHttpServletResponse first = send("/api/job-seeker/apply", "key-1", 201);
+        MockHttpServletResponse retry = send("/api/job-seeker/apply", "key-1", 201);
+
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void testReusedKey_WithDifferentBody_IsRejected() throws Exception {
+        send("/api/job-seeker/apply", "key-1", 201, "{\"jobId\":1}");
+        MockHttpServletResponse reused = send("/api/job-seeker/apply", "key-1", 201, "{\"jobId\":2}");
+        MockHttpServletResponse retry = send("/api/job-seeker/apply", "key-1", 201, "{\"jobId\":1}");
+
+        assertEquals(1, executions.get());
+        assertEquals(422, reused.getStatus());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void testKeys_AreScopedToCallerAndPath() throws Exception {
+        send("/api/job-seeker/apply", "key-1", 200);
+        send("/api/jobs/create", "key-1", 200);
+        signIn("alex@example.com");
+        send("/api/job-seeker/apply", "key-1", 200);
+
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    void testServerError_IsNotStored() throws Exception {
+        send("/api/job-seeker/apply", "key-1", 500);
+        send("/api/job-seeker/apply", "key-1", 200);
+
+        assertEquals(2, executions.get());
+        assertEquals(1, filter.size());
+    }
+
+    @Test
+    void testAnonymousRequests_AreNotStored() throws Exception {
+        SecurityContextHolder.clearContext();
+        send("/api/auth/signin", "key-1", 200);
+        send("/api/auth/signin", "key-1", 200);
+
+        assertEquals(2, executions.get());
+        assertEquals(0, filter.size());
+    }
+
+    private MockHttpServletResponse send(String path, String idempotencyKey, int status) throws Exception {
+        return send(path, idempotencyKey, status, "{}");
+    }
+
+    private MockHttpServletResponse send(String path, String idempotencyKey, int status, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.addHeader(IdempotencyFilter.HEADER, idempotencyKey);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            // The controller still gets the whole body after the filter has fingerprinted it
+            assertEquals(body, new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            int execution = executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(status);
+            res.setContentType("application/json");
+            res.getOutputStream().write(("{\"execution\":" + execution + "}").getBytes(StandardCharsets.UTF_8));
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private void signIn(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_JOB_SEEKER"))));
+    }
+}
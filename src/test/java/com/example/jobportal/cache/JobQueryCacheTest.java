@@ -0,0 +1,112 @@
+package com.example.jobportal.cache;
+
+import com.example.jobportal.dto.JobResponse;
+import com.example.jobportal.search.JobDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JobQueryCacheTest {
+
+    private JobQueryCache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JobQueryCache(100, 30);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGet_NormalisedQueriesShareAnEntry() {
+        cache.get(JobQueryCache.Kind.SEARCH, "Java", value -> load(1L));
+        cache.get(JobQueryCache.Kind.SEARCH, "  JAVA ", value -> load(1L));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void testGet_LoadsTheNormalisedValue() {
+        List<String> loaded = new ArrayList<>();
+        cache.get(JobQueryCache.Kind.SEARCH, "  Java   Developer ", value -> {
+            loaded.add(value);
+            return load(1L);
+        });
+        cache.get(JobQueryCache.Kind.TYPE, " FULL_TIME ", value -> {
+            loaded.add(value);
+            return load(1L);
+        });
+
+        assertEquals(List.of("java developer", "FULL_TIME"), loaded);
+    }
+
+    @Test
+    void testIndex_EvictsOnlyAffectedQueries() {
+        cache.get(JobQueryCache.Kind.SEARCH, "java", value -> load(1L));
+        cache.get(JobQueryCache.Kind.TYPE, "FULL_TIME", value -> load(1L));
+        cache.get(JobQueryCache.Kind.LOCATION, "pune", value -> load(2L));
+
+        // A new Java job in Bangalore: the java search can now include it, the Pune list cannot
+        cache.index(job(3L, "Java Developer", "Bangalore", "CONTRACT"));
+
+        assertEquals(2, cache.size());
+        cache.get(JobQueryCache.Kind.SEARCH, "java", value -> load(1L, 3L));
+        cache.get(JobQueryCache.Kind.LOCATION, "pune", value -> load(2L));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testRemove_EvictsQueriesListingTheJob() {
+        cache.get(JobQueryCache.Kind.LEVEL, "senior", value -> load(1L, 2L));
+        cache.get(JobQueryCache.Kind.LEVEL, "entry", value -> load(3L));
+
+        cache.remove(2L);
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testGet_DoesNotStoreResultLoadedAcrossAWrite() {
+        cache.get(JobQueryCache.Kind.ACTIVE, null, value -> {
+            cache.index(job(5L, "Engineer", "Pune", "FULL_TIME"));
+            return load(1L);
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testGet_BoundsTheNumberOfCachedJobs() {
+        cache.get(JobQueryCache.Kind.LEVEL, "senior", value -> load(1L, 2L));
+        cache.get(JobQueryCache.Kind.ACTIVE, null, value -> load(LongStream.rangeClosed(1, 150).boxed().toArray(Long[]::new)));
+
+        // The 151-job result alone outweighs the 100-job bound, so it is not kept
+        assertEquals(1, cache.size());
+    }
+
+    private List<JobResponse> load(Long... ids) {
+        loads.incrementAndGet();
+        List<JobResponse> jobs = new ArrayList<>();
+        for (Long id : ids) {
+            JobResponse job = new JobResponse();
+            job.setId(id);
+            jobs.add(job);
+        }
+        return jobs;
+    }
+
+    private JobDocument job(long id, String title, String location, String jobType) {
+        return new JobDocument(id, title, "description", "Tech Corp", location, jobType, "MID",
+                null, LocalDateTime.now(), null, true);
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.jobportal.controller;
+
+import com.example.jobportal.cache.JobQueryCache;
+import com.example.jobportal.model.ApplicationStatus;
+import com.example.jobportal.model.Job;
+import com.example.jobportal.model.JobApplication;
+import com.example.jobportal.model.Role;
+import com.example.jobportal.model.User;
+import com.example.jobportal.repository.JobApplicationRepository;
+import com.example.jobportal.repository.JobRepository;
+import com.example.jobportal.repository.UserRepository;
+import com.example.jobportal.search.Gazetteer;
+import com.example.jobportal.search.GeoPoint;
+import com.example.jobportal.search.JobIndexer;
+import com.example.jobportal.security.JwtUtils;
+import com.example.jobportal.service.ApplicationCounterService;
+import com.example.jobportal.support.QueryCounter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Drives every controller endpoint against seeded data on H2 in MySQL mode and fails when a request
+ * executes more SQL statements, reads more result rows or takes longer than its budget.
+ * The public list cache is cleared before each request, so budgets hold for a cold cache.
+ * When a change legitimately needs more queries, raise the budget in the same commit and say why.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryCounter.Config.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EndpointQueryBudgetTest {
+
+    private static final long LATENCY_BUDGET_MS = 2000;
+
+    private static final int PROVIDER_JOBS = 30;
+    private static final int OTHER_PROVIDER_JOBS = 10;
+    private static final int SEEKERS = 20;
+    private static final int APPLICATIONS_PER_SEEKER = 5;
+
+    private static final String[] LOCATIONS = {"Bangalore", "Pune", "Hyderabad", "Remote"};
+    private static final String[] JOB_TYPES = {"FULL_TIME", "PART_TIME", "CONTRACT"};
+    private static final String[] LEVELS = {"ENTRY", "MID", "SENIOR"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private Gazetteer gazetteer;
+
+    @Autowired
+    private JobIndexer jobIndexer;
+
+    @Autowired
+    private ApplicationCounterService applicationCounterService;
+
+    @Autowired
+    private JobQueryCache jobQueryCache;
+
+    private User provider;
+    private User otherProvider;
+    private User seeker;
+    private Job job;
+    private Job jobToDelete;
+    private JobApplication application;
+    private JobApplication applicationToWithdraw;
+
+    @BeforeAll
+    void seed() throws Exception {
+        String password = passwordEncoder.encode("password");
+        provider = userRepository.save(new User("Priya", "Provider", "provider@example.com", password, Role.JOB_PROVIDER));
+        otherProvider = userRepository.save(
+                new User("Omar", "Provider", "other.provider@example.com", password, Role.JOB_PROVIDER));
+
+        Random random = new Random(7);
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < PROVIDER_JOBS + OTHER_PROVIDER_JOBS; i++) {
+            String location = LOCATIONS[i % LOCATIONS.length];
+            Job posted = new Job((i % 2 == 0 ? "Java Developer " : "Data Engineer ") + i,
+                    "Build and run backend services with Java, Spring and MySQL. ".repeat(10),
+                    i % 3 == 0 ? "Tech Corp" : "DataWorks", location, i < PROVIDER_JOBS ? provider : otherProvider);
+            posted.setJobType(JOB_TYPES[i % JOB_TYPES.length]);
+            posted.setExperienceLevel(LEVELS[i % LEVELS.length]);
+            posted.setSalary(BigDecimal.valueOf(400000 + random.nextInt(20) * 50000L));
+            GeoPoint point = gazetteer.geocode(location);
+            if (point != null) {
+                posted.setLatitude(point.getLatitude());
+                posted.setLongitude(point.getLongitude());
+            }
+            jobs.add(posted);
+        }
+        jobs = jobRepository.saveAll(jobs);
+        job = jobs.get(0);
+        jobToDelete = jobs.get(PROVIDER_JOBS - 1);
+
+        List<JobApplication> applications = new ArrayList<>();
+        for (int s = 0; s < SEEKERS; s++) {
+            User applicant = userRepository.save(
+                    new User("Seeker", "No" + s, "seeker" + s + "@example.com", password, Role.JOB_SEEKER));
+            if (s == 0) {
+                seeker = applicant;
+            }
+            for (int a = 0; a < APPLICATIONS_PER_SEEKER; a++) {
+                JobApplication applied = new JobApplication(jobs.get((s + a * 7) % (PROVIDER_JOBS - 1)), applicant,
+                        "I would like to apply.");
+                applied.setStatus(ApplicationStatus.values()[(s + a) % 4]);
+                applications.add(applied);
+            }
+        }
+        applications = jobApplicationRepository.saveAll(applications);
+        application = applications.get(0);
+        applicationToWithdraw = applications.get(1);
+
+        jobIndexer.rebuild();
+        applicationCounterService.reconcile();
+
+        // Warm up the MVC and security infrastructure outside any measured request
+        mockMvc.perform(get("/api/jobs/public/all")).andReturn();
+
+        // Token versions are read once per user per TTL; load them here so each budget covers only its endpoint
+        for (User user : List.of(provider, otherProvider, seeker)) {
+            mockMvc.perform(as(user, get("/api/auth/me"))).andReturn();
+        }
+    }
+
+    @TestFactory
+    Stream<DynamicTest> endpointsStayWithinBudget() {
+        List<Endpoint> endpoints = List.of(
+                // Public job APIs
+                endpoint("GET /api/hello", () -> get("/api/hello"), 1, 1),
+                endpoint("GET /api/jobs/public/all", () -> get("/api/jobs/public/all"), 1, 21),
+                endpoint("GET /api/jobs/public/feed", () -> get("/api/jobs/public/feed").param("size", "20"), 1, 21),
+                endpoint("GET /api/jobs/public/{id}", () -> get("/api/jobs/public/" + job.getId()), 2, 2),
+                endpoint("GET /api/jobs/public/search", () -> get("/api/jobs/public/search").param("keyword", "java"), 3, 42),
+                endpoint("GET /api/jobs/public/search?ranked", () -> get("/api/jobs/public/search")
+                        .param("keyword", "java").param("ranked", "true").param("limit", "10"), 3, 12),
+                endpoint("GET /api/jobs/public/search/facets",
+                        () -> get("/api/jobs/public/search/facets").param("keyword", "java"), 3, 42),
+                endpoint("GET /api/jobs/public/query", () -> get("/api/jobs/public/query")
+                        .param("keyword", "java").param("jobType", "FULL_TIME").param("size", "10"), 2, 11),
+                endpoint("GET /api/jobs/public/salary", () -> get("/api/jobs/public/salary")
+                        .param("minSalary", "500000").param("size", "10"), 2, 11),
+                endpoint("GET /api/jobs/public/suggest", () -> get("/api/jobs/public/suggest").param("prefix", "ja"), 0, 0),
+                endpoint("GET /api/jobs/public/nearby", () -> get("/api/jobs/public/nearby")
+                        .param("location", "Bangalore").param("limit", "10"), 3, 12),
+                endpoint("GET /api/jobs/public/location", () -> get("/api/jobs/public/location").param("location", "pune"), 1, 10),
+                endpoint("GET /api/jobs/public/type", () -> get("/api/jobs/public/type").param("jobType", "CONTRACT"), 1, 13),
+                endpoint("GET /api/jobs/public/experience",
+                        () -> get("/api/jobs/public/experience").param("experienceLevel", "SENIOR"), 1, 13),
+                endpoint("GET /api/jobs/public/export", () -> get("/api/jobs/public/export"), 1, 40),
+
+                // Provider APIs
+                endpoint("GET /api/jobs/my-jobs", () -> as(provider, get("/api/jobs/my-jobs")), 2, 31),
+                endpoint("GET /api/jobs/my-jobs/count", () -> as(provider, get("/api/jobs/my-jobs/count")), 1, 1),
+                endpoint("GET /api/provider/applications", () -> as(provider, get("/api/provider/applications")), 1, 100),
+                endpoint("GET /api/provider/applications/page",
+                        () -> as(provider, get("/api/provider/applications/page").param("size", "20")), 1, 21),
+                endpoint("GET /api/provider/applications/status/{status}",
+                        () -> as(provider, get("/api/provider/applications/status/APPLIED")), 1, 25),
+                endpoint("GET /api/provider/jobs/{id}/applications",
+                        () -> as(provider, get("/api/provider/jobs/" + job.getId() + "/applications")), 2, 5),
+                endpoint("GET /api/provider/jobs/{id}/applications/page", () -> as(provider,
+                        get("/api/provider/jobs/" + job.getId() + "/applications/page").param("size", "20")), 2, 5),
+                endpoint("GET /api/provider/dashboard", () -> as(provider, get("/api/provider/dashboard")), 1, 83),
+
+                // Seeker APIs
+                endpoint("GET /api/auth/me", () -> as(seeker, get("/api/auth/me")), 1, 1),
+                endpoint("GET /api/job-seeker/applications", () -> as(seeker, get("/api/job-seeker/applications")), 1, 5),
+                endpoint("GET /api/job-seeker/applications/page",
+                        () -> as(seeker, get("/api/job-seeker/applications/page").param("size", "20")), 1, 5),
+                endpoint("GET /api/job-seeker/applications/status/{status}",
+                        () -> as(seeker, get("/api/job-seeker/applications/status/APPLIED")), 1, 2),
+                endpoint("GET /api/job-seeker/applications/{id}",
+                        () -> as(seeker, get("/api/job-seeker/applications/" + application.getId())), 3, 3),
+                endpoint("GET /api/job-seeker/applications/count",
+                        () -> as(seeker, get("/api/job-seeker/applications/count")), 1, 1),
+                endpoint("GET /api/job-seeker/applications/count/{status}",
+                        () -> as(seeker, get("/api/job-seeker/applications/count/APPLIED")), 1, 1),
+                endpoint("GET /api/job-seeker/applications/recent",
+                        () -> as(seeker, get("/api/job-seeker/applications/recent")), 1, 5),
+                endpoint("GET /api/job-seeker/jobs/{id}/applied",
+                        () -> as(seeker, get("/api/job-seeker/jobs/" + job.getId() + "/applied")), 1, 1),
+                endpoint("GET /api/job-seeker/jobs/applied", () -> as(seeker, get("/api/job-seeker/jobs/applied")
+                        .param("jobIds", jobRepository.findAll().stream()
+                                .map(posted -> String.valueOf(posted.getId()))
+                                .toArray(String[]::new))), 1, 5),
+                endpoint("GET /api/job-seeker/dashboard", () -> as(seeker, get("/api/job-seeker/dashboard")), 2, 9),
+                endpoint("GET /api/job-seeker/dashboard/stats",
+                        () -> as(seeker, get("/api/job-seeker/dashboard/stats")), 2, 9),
+
+                // Writes
+                endpoint("POST /api/jobs/create", () -> as(provider, post("/api/jobs/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Platform Engineer\",\"description\":\"Run the platform\","
+                                + "\"company\":\"Tech Corp\",\"location\":\"Pune\",\"salary\":900000,"
+                                + "\"jobType\":\"FULL_TIME\",\"experienceLevel\":\"SENIOR\"}")), 2, 1),
+                endpoint("PUT /api/jobs/{id}", () -> as(provider, put("/api/jobs/" + job.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Senior Java Developer\",\"description\":\"Build backend services\","
+                                + "\"company\":\"Tech Corp\",\"location\":\"Bangalore\",\"salary\":1200000,"
+                                + "\"jobType\":\"FULL_TIME\",\"experienceLevel\":\"SENIOR\"}")), 3, 2),
+                endpoint("DELETE /api/jobs/{id}", () -> as(provider, delete("/api/jobs/" + jobToDelete.getId())), 2, 1),
+                endpoint("POST /api/job-seeker/apply", () -> as(seeker, post("/api/job-seeker/apply")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"jobId\":" + jobRepository.findAll().get(PROVIDER_JOBS).getId()
+                                + ",\"coverLetter\":\"Hello\"}")), 4, 2),
+                endpoint("PUT /api/job-seeker/applications/{id}/withdraw", () -> as(seeker,
+                        put("/api/job-seeker/applications/" + applicationToWithdraw.getId() + "/withdraw")), 5, 3),
+                endpoint("PUT /api/provider/applications/{id}/status", () -> as(provider,
+                        put("/api/provider/applications/" + application.getId() + "/status")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"status\":\"SHORTLISTED\"}")), 5, 3),
+                endpoint("POST /api/auth/signin", () -> post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"seeker1@example.com\",\"password\":\"password\"}"), 1, 1),
+                endpoint("POST /api/auth/logout", () -> as(otherProvider, post("/api/auth/logout")), 2, 1),
+                endpoint("POST /api/auth/signup", () -> post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"New\",\"lastName\":\"Seeker\",\"email\":\"new.seeker@example.com\","
+                                + "\"password\":\"password\",\"role\":\"JOB_SEEKER\"}"), 3, 1)
+        );
+
+        return endpoints.stream().map(endpoint -> DynamicTest.dynamicTest(endpoint.name, () -> check(endpoint)));
+    }
+
+    private void check(Endpoint endpoint) throws Exception {
+        jobQueryCache.clear();
+        MockHttpServletRequestBuilder request = endpoint.request.get();
+
+        QueryCounter.start();
+        long start = System.nanoTime();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result.getAsyncResult();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        QueryCounter.Counts counts = QueryCounter.stop();
+        String measured = endpoint.name + " ran " + counts + " in " + elapsedMs + " ms";
+
+        int status = result.getResponse().getStatus();
+        assertTrue(status < 400, measured + " and returned " + status);
+        assertTrue(counts.getStatements() <= endpoint.maxStatements,
+                measured + ", budget is " + endpoint.maxStatements + " statements");
+        assertTrue(counts.getRows() <= endpoint.maxRows,
+                measured + ", budget is " + endpoint.maxRows + " rows");
+        assertTrue(elapsedMs <= LATENCY_BUDGET_MS,
+                measured + ", budget is " + LATENCY_BUDGET_MS + " ms");
+    }
+
+    private MockHttpServletRequestBuilder as(User user, MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + jwtUtils.generateTokenForUser(user));
+    }
+
+    private static Endpoint endpoint(String name, Supplier<MockHttpServletRequestBuilder> request,
+                                     long maxStatements, long maxRows) {
+        return new Endpoint(name, request, maxStatements, maxRows);
+    }
+
+    private static final class Endpoint {
+        final String name;
+        final Supplier<MockHttpServletRequestBuilder> request;
+        final long maxStatements;
+        final long maxRows;
+
+        Endpoint(String name, Supplier<MockHttpServletRequestBuilder> request, long maxStatements, long maxRows) {
+            this.name = name;
+            this.request = request;
+            this.maxStatements = maxStatements;
+            this.maxRows = maxRows;
+        }
+    }
+}
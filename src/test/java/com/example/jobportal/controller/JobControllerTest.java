@@ -1,7 +1,9 @@
 package com.example.jobportal.controller;
 
 import com.example.jobportal.dto.CreateJobRequest;
+import com.example.jobportal.dto.CursorPage;
 import com.example.jobportal.dto.JobResponse;
+import com.example.jobportal.dto.JobSummary;
 import com.example.jobportal.dto.UpdateJobRequest;
 import com.example.jobportal.service.JobService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -41,6 +43,7 @@ public class JobControllerTest {
     private CreateJobRequest createJobRequest;
     private UpdateJobRequest updateJobRequest;
     private JobResponse jobResponse;
+    private JobSummary jobSummary;
 
     @BeforeEach
     void setUp() {
@@ -76,6 +79,9 @@ public class JobControllerTest {
         jobResponse.setCreatedById(1L);
         jobResponse.setCreatedByName("John Employer");
         jobResponse.setCreatedByEmail("john.employer@example.com");
+
+        jobSummary = new JobSummary(1L, "Senior Software Engineer", "Tech Corp", "San Francisco, CA",
+                new BigDecimal("120000"), "FULL_TIME", "SENIOR", LocalDateTime.now(), "John", "Employer");
     }
 
     @Test
@@ -232,8 +238,8 @@ public class JobControllerTest {
 
     @Test
     void testGetAllActiveJobs_Success() throws Exception {
-        List<JobResponse> jobs = Arrays.asList(jobResponse);
-        when(jobService.getActiveJobs()).thenReturn(jobs);
+        List<JobSummary> jobs = Arrays.asList(jobSummary);
+        when(jobService.getActiveJobsPage(null, 20)).thenReturn(new CursorPage<>(jobs, 20, null));
 
         mockMvc.perform(get("/api/jobs/public/all"))
                 .andExpect(status().isOk())
@@ -241,7 +247,7 @@ public class JobControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].title").value("Senior Software Engineer"));
 
-        verify(jobService, times(1)).getActiveJobs();
+        verify(jobService, times(1)).getActiveJobsPage(null, 20);
     }
 
     @Test
@@ -283,7 +289,7 @@ public class JobControllerTest {
 
     @Test
     void testGetJobsByLocation_Success() throws Exception {
-        List<JobResponse> jobs = Arrays.asList(jobResponse);
+        List<JobSummary> jobs = Arrays.asList(jobSummary);
         when(jobService.getJobsByLocation("San Francisco")).thenReturn(jobs);
 
         mockMvc.perform(get("/api/jobs/public/location")
@@ -298,7 +304,7 @@ public class JobControllerTest {
 
     @Test
     void testGetJobsByType_Success() throws Exception {
-        List<JobResponse> jobs = Arrays.asList(jobResponse);
+        List<JobSummary> jobs = Arrays.asList(jobSummary);
         when(jobService.getJobsByType("FULL_TIME")).thenReturn(jobs);
 
         mockMvc.perform(get("/api/jobs/public/type")
@@ -313,7 +319,7 @@ public class JobControllerTest {
 
     @Test
     void testGetJobsByExperienceLevel_Success() throws Exception {
-        List<JobResponse> jobs = Arrays.asList(jobResponse);
+        List<JobSummary> jobs = Arrays.asList(jobSummary);
         when(jobService.getJobsByExperienceLevel("SENIOR")).thenReturn(jobs);
 
         mockMvc.perform(get("/api/jobs/public/experience")
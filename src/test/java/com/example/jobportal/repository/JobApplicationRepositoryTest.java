@@ -0,0 +1,146 @@
+package com.example.jobportal.repository;
+
+import com.example.jobportal.dto.JobApplicationResponse;
+import com.example.jobportal.model.ApplicationStatus;
+import com.example.jobportal.model.Job;
+import com.example.jobportal.model.JobApplication;
+import com.example.jobportal.model.Role;
+import com.example.jobportal.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every application list query must load its jobs and applicants in one statement,
+ * however many applications, jobs and applicants it returns
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class JobApplicationRepositoryTest {
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User provider;
+    private User seeker;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        provider = persist(new User("Jane", "Provider", "jane@example.com", "password", Role.JOB_PROVIDER));
+        seeker = persist(new User("Sam", "Seeker", "sam@example.com", "password", Role.JOB_SEEKER));
+        List<User> seekers = List.of(seeker,
+                persist(new User("Alex", "Seeker", "alex@example.com", "password", Role.JOB_SEEKER)),
+                persist(new User("Kim", "Seeker", "kim@example.com", "password", Role.JOB_SEEKER)));
+
+        for (int j = 0; j < 3; j++) {
+            Job posted = persist(new Job("Job " + j, "Description", "Tech Corp", "Pune", provider));
+            if (j == 0) {
+                job = posted;
+            }
+            for (User applicant : seekers) {
+                JobApplication application = new JobApplication(posted, applicant);
+                application.setStatus(j == 1 ? ApplicationStatus.UNDER_REVIEW : ApplicationStatus.APPLIED);
+                persist(application);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testSeekerLists_RunOneStatement() {
+        assertSingleStatement(3, () -> jobApplicationRepository.findByApplicantOrderByAppliedAtDesc(seeker));
+        assertSingleStatement(1, () -> jobApplicationRepository.findByApplicantAndStatusOrderByAppliedAtDesc(
+                seeker, ApplicationStatus.UNDER_REVIEW));
+        assertSingleStatement(3, () -> jobApplicationRepository.findTop10ByApplicantOrderByAppliedAtDesc(seeker));
+    }
+
+    @Test
+    void testProviderLists_RunOneStatement() {
+        assertSingleStatement(9, () -> jobApplicationRepository.findByJobProviderOrderByAppliedAtDesc(provider));
+        assertSingleStatement(3, () -> jobApplicationRepository.findByJobOrderByAppliedAtDesc(job));
+        assertSingleStatement(3, () -> jobApplicationRepository.findByJobProviderAndStatusOrderByAppliedAtDesc(
+                provider, ApplicationStatus.UNDER_REVIEW));
+        assertSingleStatement(9, () -> jobApplicationRepository.findTop10ByJobProviderOrderByAppliedAtDesc(provider));
+    }
+
+    @Test
+    void testProviderDashboardCounts_RunOneStatement() {
+        persist(new Job("Unapplied", "Description", "Tech Corp", "Pune", provider));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<JobStatusCount> rows = jobApplicationRepository.countByJobAndStatusForJobProvider(provider);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(4, rows.stream().map(JobStatusCount::getJobId).distinct().count());
+        assertEquals(9, rows.stream().mapToLong(JobStatusCount::getApplications).sum());
+        assertEquals(3, rows.stream().filter(row -> row.getStatus() == ApplicationStatus.UNDER_REVIEW)
+                .mapToLong(JobStatusCount::getApplications).sum());
+        assertEquals(9, jobApplicationRepository.countByJobProvider(provider));
+    }
+
+    @Test
+    void testAppliedJobIds_ReturnsOnlyTheApplicantsJobs() {
+        Job unapplied = persist(new Job("Unapplied", "Description", "Tech Corp", "Pune", provider));
+        entityManager.flush();
+        statistics.clear();
+
+        List<Long> applied = jobApplicationRepository.findAppliedJobIds(seeker, List.of(job.getId(), unapplied.getId()));
+
+        assertEquals(List.of(job.getId()), applied);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testSecondApplication_IsRejectedByTheDatabase() {
+        DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class,
+                () -> jobApplicationRepository.saveAndFlush(new JobApplication(job, seeker)));
+
+        // JobApplicationService tells a repeated application from other violations by this name
+        ConstraintViolationException cause = (ConstraintViolationException) e.getCause();
+        assertTrue(cause.getConstraintName().toLowerCase().contains(JobApplication.UK_JOB_APPLICANT));
+    }
+
+    private void assertSingleStatement(int expectedRows, Supplier<List<JobApplication>> query) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<JobApplicationResponse> responses = query.get().stream()
+                .map(JobApplicationResponse::new)
+                .collect(Collectors.toList());
+
+        assertEquals(expectedRows, responses.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
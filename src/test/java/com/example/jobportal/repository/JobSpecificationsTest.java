@@ -0,0 +1,68 @@
+package com.example.jobportal.repository;
+
+import com.example.jobportal.dto.JobSummary;
+import com.example.jobportal.model.Job;
+import com.example.jobportal.model.Role;
+import com.example.jobportal.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Wildcards typed into keyword and location filters match literally, in specifications and JPQL alike
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+public class JobSpecificationsTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        User provider = new User("Jane", "Provider", "jane@example.com", "password", Role.JOB_PROVIDER);
+        entityManager.persist(provider);
+        entityManager.persist(new Job("100% Remote Engineer", "Description", "Tech Corp", "Pune", provider));
+        entityManager.persist(new Job("1000 Remote Engineers", "Description", "Tech Corp", "Pune_East", provider));
+        entityManager.persist(new Job("Backend Engineer", "C:\\build path", "Tech Corp", "PuneXEast", provider));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testKeywordMatches_TreatsWildcardsLiterally() {
+        assertEquals(List.of("100% Remote Engineer"), titles(JobSpecifications.keywordMatches("100%")));
+        assertEquals(List.of("Backend Engineer"), titles(JobSpecifications.keywordMatches("c:\\b")));
+    }
+
+    @Test
+    void testLocationContains_TreatsUnderscoreLiterally() {
+        assertEquals(List.of("1000 Remote Engineers"), titles(JobSpecifications.locationContains("pune_")));
+    }
+
+    @Test
+    void testFindActiveSummariesByLocation_TreatsUnderscoreLiterally() {
+        List<String> titles = jobRepository.findActiveSummariesByLocation(JobSpecifications.containsPattern("pune_"))
+                .stream()
+                .map(JobSummary::getTitle)
+                .collect(Collectors.toList());
+        assertEquals(List.of("1000 Remote Engineers"), titles);
+    }
+
+    private List<String> titles(Specification<Job> spec) {
+        return jobRepository.findAll(JobSpecifications.isActive().and(spec)).stream()
+                .map(Job::getTitle)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.jobportal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class JobFacetIndexTest {
+
+    private JobFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobFacetIndex();
+        index.index(job(1L, "FULL_TIME", "SENIOR", "Bangalore"));
+        index.index(job(2L, "FULL_TIME", "MID", "bangalore "));
+        index.index(job(3L, "CONTRACT", "MID", "Remote"));
+    }
+
+    @Test
+    void testCount_AllActiveJobs() {
+        Map<String, Map<String, Long>> counts = index.count(index.activeIds(), 10);
+
+        assertEquals(Map.of("FULL_TIME", 2L, "CONTRACT", 1L), counts.get(JobFacetIndex.JOB_TYPE));
+        assertEquals(Map.of("MID", 2L, "SENIOR", 1L), counts.get(JobFacetIndex.EXPERIENCE_LEVEL));
+        assertEquals(Map.of("Bangalore", 2L, "Remote", 1L), counts.get(JobFacetIndex.LOCATION));
+    }
+
+    @Test
+    void testCount_IntersectsWithResultSet() {
+        BitSet result = new BitSet();
+        result.set(2);
+        result.set(3);
+
+        Map<String, Map<String, Long>> counts = index.count(result, 10);
+
+        assertEquals(Map.of("FULL_TIME", 1L, "CONTRACT", 1L), counts.get(JobFacetIndex.JOB_TYPE));
+        assertEquals(Map.of("MID", 2L), counts.get(JobFacetIndex.EXPERIENCE_LEVEL));
+    }
+
+    @Test
+    void testCount_FollowsUpdatesAndRemovals() {
+        index.index(job(1L, "PART_TIME", "SENIOR", "Pune"));
+        index.remove(3L);
+
+        Map<String, Map<String, Long>> counts = index.count(index.activeIds(), 10);
+
+        assertEquals(Map.of("FULL_TIME", 1L, "PART_TIME", 1L), counts.get(JobFacetIndex.JOB_TYPE));
+        assertEquals(Map.of("Bangalore", 1L, "Pune", 1L), counts.get(JobFacetIndex.LOCATION));
+        assertFalse(index.activeIds().get(3));
+    }
+
+    @Test
+    void testCount_KeepsMostCommonValuesPerFacet() {
+        Map<String, Map<String, Long>> counts = index.count(index.activeIds(), 1);
+
+        assertEquals(Map.of("FULL_TIME", 2L), counts.get(JobFacetIndex.JOB_TYPE));
+        assertEquals(Map.of("Bangalore", 2L), counts.get(JobFacetIndex.LOCATION));
+    }
+
+    private JobDocument job(long id, String jobType, String experienceLevel, String location) {
+        return new JobDocument(id, "Engineer", "description", "Tech Corp", location, jobType, experienceLevel,
+                null, LocalDateTime.now(), null, true);
+    }
+}
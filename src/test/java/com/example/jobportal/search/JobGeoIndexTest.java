@@ -0,0 +1,63 @@
+package com.example.jobportal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JobGeoIndexTest {
+
+    private final Gazetteer gazetteer = new Gazetteer();
+
+    private JobGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobGeoIndex();
+        index.index(job(1L, "San Francisco, CA"));
+        index.index(job(2L, "Palo Alto"));
+        index.index(job(3L, "Bengaluru"));
+        index.index(job(4L, "Remote"));
+    }
+
+    @Test
+    void testGeocode_MatchesAliasesAndLocationParts() {
+        assertEquals(gazetteer.geocode("San Francisco").getLatitude(), gazetteer.geocode("Bay Area").getLatitude());
+        assertEquals(gazetteer.geocode("Bangalore").getLongitude(), gazetteer.geocode("Whitefield, Bengaluru").getLongitude());
+        assertNull(gazetteer.geocode("Remote"));
+    }
+
+    @Test
+    void testNearby_FiltersByDistanceNearestFirst() {
+        List<GeoHit> hits = index.nearby(gazetteer.geocode("Bay Area"), 60);
+
+        assertEquals(List.of(1L, 2L), hits.stream().map(GeoHit::getJobId).collect(Collectors.toList()));
+        assertTrue(hits.get(0).getDistanceKm() < 1);
+        assertTrue(hits.get(1).getDistanceKm() > 40 && hits.get(1).getDistanceKm() < 60);
+        assertEquals(List.of(1L), index.nearby(gazetteer.geocode("Bay Area"), 10).stream()
+                .map(GeoHit::getJobId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testUpdateAndRemove() {
+        index.index(job(2L, "Pune"));
+        index.remove(3L);
+
+        assertEquals(1, index.nearby(gazetteer.geocode("San Jose"), 100).size());
+        assertTrue(index.nearby(gazetteer.geocode("Mysore"), 200).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    private JobDocument job(long id, String location) {
+        GeoPoint point = gazetteer.geocode(location);
+        return new JobDocument(id, "Engineer", "description", "Tech Corp", location, "FULL_TIME", "MID",
+                null, LocalDateTime.now(), null, true,
+                point != null ? point.getLatitude() : null, point != null ? point.getLongitude() : null);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.jobportal.search;
+
+import com.example.jobportal.model.Job;
+import com.example.jobportal.model.Role;
+import com.example.jobportal.model.User;
+import com.example.jobportal.repository.JobRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Legacy jobs are geocoded once without touching updated_at, replay through geocoded_at, and are not retried when not found
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({JobGeocodingBackfill.class, Gazetteer.class})
+@ImportAutoConfiguration(TransactionAutoConfiguration.class)
+public class JobGeocodingBackfillTest {
+
+    @Autowired
+    private JobGeocodingBackfill backfill;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void testRun_GeocodesOnceAndMarksUnknownPlaces() {
+        User provider = new User("Jane", "Provider", "jane@example.com", "password", Role.JOB_PROVIDER);
+        entityManager.persist(provider);
+        Job known = new Job("Engineer", "Description", "Tech Corp", "Bengaluru", provider);
+        Job unknown = new Job("Engineer", "Description", "Tech Corp", "Remote", provider);
+        entityManager.persist(known);
+        entityManager.persist(unknown);
+        entityManager.flush();
+        entityManager.clear();
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+
+        backfill.run(null);
+        entityManager.clear();
+
+        Job geocoded = jobRepository.findById(known.getId()).orElseThrow();
+        assertNotNull(geocoded.getLatitude());
+        assertNull(geocoded.getUpdatedAt());
+        assertTrue(geocoded.getGeocodedAt().isAfter(before));
+        assertTrue(jobRepository.findChangedSince(before).stream().anyMatch(job -> job.getId().equals(known.getId())));
+        Job tried = jobRepository.findById(unknown.getId()).orElseThrow();
+        assertNull(tried.getLatitude());
+        assertNotNull(tried.getGeocodedAt());
+        assertEquals(0, jobRepository.findByGeocodedAtIsNullAndIdGreaterThanOrderByIdAsc(0L, Limit.of(10)).size());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.jobportal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JobSalaryIndexTest {
+
+    private JobSalaryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSalaryIndex();
+        index.index(job(1L, "80000"));
+        index.index(job(2L, "120000.00"));
+        index.index(job(3L, "95000.50"));
+        index.index(job(4L, "80000"));
+        index.index(job(5L, null));
+    }
+
+    @Test
+    void testIdsInRange_InclusiveBounds() {
+        assertEquals(ids(1, 2, 3, 4), index.idsInRange(new BigDecimal("80000"), new BigDecimal("120000")));
+        assertEquals(ids(3), index.idsInRange(new BigDecimal("80000.01"), new BigDecimal("119999.99")));
+        assertEquals(ids(2, 3), index.idsInRange(new BigDecimal("90000"), null));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void testIdsInRange_HugeAndFractionalCentBounds() {
+        assertEquals(ids(1, 2, 3, 4), index.idsInRange(new BigDecimal("-1e30"), new BigDecimal("1e30")));
+        assertEquals(ids(), index.idsInRange(new BigDecimal("1e30"), null));
+        assertEquals(ids(1, 4), index.idsInRange(null, new BigDecimal("95000.499")));
+    }
+
+    @Test
+    void testPageBySalary_OrdersBySalaryThenNewest() {
+        BitSet all = ids(1, 2, 3, 4);
+
+        assertEquals(List.of(4L, 1L, 3L, 2L), index.pageBySalary(all, null, null, false, 0, 10));
+        assertEquals(List.of(2L, 3L, 4L, 1L), index.pageBySalary(all, null, null, true, 0, 10));
+        assertEquals(List.of(3L, 4L), index.pageBySalary(all, null, null, true, 1, 2));
+        assertEquals(List.of(1L), index.pageBySalary(ids(1, 2), null, new BigDecimal("100000"), false, 0, 10));
+    }
+
+    @Test
+    void testUpdateAndRemove() {
+        index.index(job(1L, "150000"));
+        index.remove(3L);
+
+        assertEquals(ids(4), index.idsInRange(null, new BigDecimal("100000")));
+        assertEquals(List.of(1L, 2L, 4L), index.pageBySalary(ids(1, 2, 3, 4), null, null, true, 0, 10));
+    }
+
+    private static BitSet ids(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+
+    private JobDocument job(long id, String salary) {
+        return new JobDocument(id, "Engineer", "description", "Tech Corp", "Pune", "FULL_TIME", "MID",
+                salary != null ? new BigDecimal(salary) : null, LocalDateTime.now(), null, true);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.jobportal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JobSearchIndexTest {
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex();
+        index.index(job(1L, "Senior Java Developer", "Build backend services", "Tech Corp", "Bangalore"));
+        index.index(job(2L, "Frontend Engineer", "React and TypeScript", "Web Co", "San Francisco, CA"));
+        index.index(job(3L, "Java Engineer", "Spring Boot microservices", "Tech Corp", "Remote"));
+    }
+
+    @Test
+    void testSearch_MatchesAcrossFieldsNewestFirst() {
+        assertEquals(List.of(3L, 1L), index.search("java"));
+        assertEquals(List.of(3L, 1L), index.search("tech corp"));
+        assertEquals(List.of(2L), index.search("San Francisco"));
+    }
+
+    @Test
+    void testSearch_RequiresEveryTerm() {
+        assertEquals(List.of(3L), index.search("java engineer"));
+        assertTrue(index.search("java react").isEmpty());
+    }
+
+    @Test
+    void testSearch_MatchesTermPrefixes() {
+        assertEquals(List.of(1L), index.search("dev"));
+        assertEquals(List.of(3L, 2L), index.search("ENGIN"));
+    }
+
+    @Test
+    void testSearchRanked_TitleHitOutranksDescriptionHit() {
+        index.index(job(4L, "Platform Engineer", "Write Java tooling for other teams", "Infra Ltd", "Remote"));
+
+        List<SearchHit> hits = index.searchRanked("java", 10);
+
+        assertEquals(3, hits.size());
+        assertEquals(4L, hits.get(2).getJobId());
+        assertTrue(hits.get(0).getScore() >= hits.get(1).getScore());
+        assertTrue(hits.get(1).getScore() > hits.get(2).getScore());
+    }
+
+    @Test
+    void testSearchRanked_KeepsOnlyTopK() {
+        List<SearchHit> hits = index.searchRanked("engineer", 1);
+
+        assertEquals(1, hits.size());
+        assertTrue(hits.get(0).getScore() > 0);
+        assertTrue(index.searchRanked("golang", 5).isEmpty());
+    }
+
+    @Test
+    void testSearch_FuzzyToleratesTypos() {
+        assertTrue(index.search("Banglore").isEmpty());
+        assertEquals(List.of(1L), index.search("Banglore", true));
+        assertEquals(List.of(3L, 1L), index.search("jaca", true));
+        assertTrue(index.search("jva", true).isEmpty());
+        assertEquals(List.of(2L), index.search("typscript", true));
+    }
+
+    @Test
+    void testSearchRanked_FuzzyRanksExactMatchesFirst() {
+        index.index(job(4L, "Jaba Developer", "Legacy systems", "Old Co", "Remote"));
+
+        List<SearchHit> hits = index.searchRanked("java", 10, true);
+
+        assertEquals(3, hits.size());
+        assertEquals(4L, hits.get(2).getJobId());
+    }
+
+    @Test
+    void testUpdateAndRemove() {
+        index.index(job(2L, "Java Frontend Engineer", "React", "Web Co", "Remote"));
+        assertEquals(List.of(3L, 2L, 1L), index.search("java"));
+        assertTrue(index.search("francisco").isEmpty());
+
+        index.remove(3L);
+        assertEquals(List.of(2L, 1L), index.search("java"));
+        assertEquals(2, index.size());
+    }
+
+    private JobDocument job(long id, String title, String description, String company, String location) {
+        return new JobDocument(id, title, description, company, location, "FULL_TIME", "MID",
+                null, LocalDateTime.now(), null, true);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.jobportal.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class JobSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testSaveAndLoad_RoundTripsReducedJobs() throws Exception {
+        JobSnapshotStore store = new JobSnapshotStore(directory.resolve("jobs.snapshot").toString());
+        LocalDateTime watermark = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+        JobDocument located = new JobDocument(7L, "Java Developer", "Build services, build APIs.", "Tech Corp",
+                "Bengaluru", "FULL_TIME", "SENIOR", new BigDecimal("95000.50"), watermark.minusDays(3),
+                watermark.minusHours(1), true, 12.9716, 77.5946);
+        JobDocument sparse = new JobDocument(8L, "Writer", null, null, null, null, null, null,
+                watermark.minusDays(1), null, true);
+
+        store.save(watermark, List.of(IndexedJob.of(located), IndexedJob.of(sparse)));
+        JobSnapshotStore.Snapshot snapshot = store.load();
+
+        assertEquals(watermark, snapshot.getWatermark());
+        assertEquals(2, snapshot.getJobs().size());
+        JobDocument first = snapshot.getJobs().get(0).toDocument();
+        assertEquals("Bengaluru", first.getLocation());
+        assertEquals(new BigDecimal("95000.50"), first.getSalary());
+        assertEquals(77.5946, first.getLongitude());
+        // Only the description's terms and their counts are kept
+        assertEquals("build build services apis", first.getDescription());
+        JobDocument second = snapshot.getJobs().get(1).toDocument();
+        assertNull(second.getCompany());
+        assertEquals("", second.getDescription());
+        assertNull(second.getLatitude());
+    }
+
+    @Test
+    void testLoad_IgnoresMissingOrCorruptFiles() throws Exception {
+        Path file = directory.resolve("jobs.snapshot");
+        JobSnapshotStore store = new JobSnapshotStore(file.toString());
+        assertNull(store.load());
+
+        store.save(LocalDateTime.now(), List.of(IndexedJob.of(new JobDocument(1L, "Engineer", "d", "c", "Pune",
+                "FULL_TIME", "MID", null, LocalDateTime.now(), null, true))));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+        assertNull(store.load());
+
+        assertNull(new JobSnapshotStore("").load());
+    }
+}
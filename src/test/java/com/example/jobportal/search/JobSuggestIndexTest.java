@@ -0,0 +1,65 @@
+package com.example.jobportal.search;
+
+import com.example.jobportal.dto.SuggestionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JobSuggestIndexTest {
+
+    private JobSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSuggestIndex();
+        index.index(job(1L, "Java Developer", "Tech Corp", "San Francisco, CA"));
+        index.index(job(2L, "Java Developer", "Web Co", "Bangalore"));
+        index.index(job(3L, "JavaScript Engineer", "Tech Corp", "Bangalore"));
+    }
+
+    @Test
+    void testSuggest_RanksByActiveJobCount() {
+        List<SuggestionResponse> suggestions = index.suggest("ja", 10);
+
+        assertEquals(2, suggestions.size());
+        assertEquals("Java Developer", suggestions.get(0).getText());
+        assertEquals(2L, suggestions.get(0).getCount());
+        assertEquals("JavaScript Engineer", suggestions.get(1).getText());
+    }
+
+    @Test
+    void testSuggest_MatchesWordsInsideValues() {
+        List<SuggestionResponse> suggestions = index.suggest("FRAN", 10);
+
+        assertEquals(1, suggestions.size());
+        assertEquals("San Francisco, CA", suggestions.get(0).getText());
+        assertEquals("location", suggestions.get(0).getField());
+    }
+
+    @Test
+    void testSuggest_FollowsUpdatesAndRemovals() {
+        index.index(job(2L, "Golang Developer", "Web Co", "Bangalore"));
+        assertEquals(1L, index.suggest("java d", 10).get(0).getCount());
+
+        index.remove(1L);
+        assertTrue(index.suggest("java d", 10).isEmpty());
+        assertEquals("Golang Developer", index.suggest("dev", 10).get(0).getText());
+        assertTrue(index.suggest("fran", 10).isEmpty());
+    }
+
+    @Test
+    void testSuggest_HonoursLimit() {
+        assertEquals(1, index.suggest("b", 1).size());
+        assertTrue(index.suggest("", 10).isEmpty());
+    }
+
+    private JobDocument job(long id, String title, String company, String location) {
+        return new JobDocument(id, title, "description", company, location, "FULL_TIME", "MID",
+                null, LocalDateTime.now(), null, true);
+    }
+}
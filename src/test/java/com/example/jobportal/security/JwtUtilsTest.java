@@ -0,0 +1,64 @@
+package com.example.jobportal.security;
+
+import com.example.jobportal.model.Role;
+import com.example.jobportal.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JwtUtilsTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret-0123456789";
+
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtVerifier", new JwtVerifier(SECRET));
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60000);
+    }
+
+    @Test
+    void testTokenForUser_CarriesThePrincipal() {
+        User user = new User("Sam", "Seeker", "sam@example.com", "password", Role.JOB_SEEKER);
+        user.setId(42L);
+        user.setTokenVersion(3);
+
+        JwtPrincipal principal = jwtUtils.getPrincipalFromJwtToken(jwtUtils.generateTokenForUser(user));
+
+        assertEquals(42L, principal.getId());
+        assertEquals("sam@example.com", principal.getName());
+        assertEquals(Role.JOB_SEEKER, principal.getRole());
+        assertEquals(3, principal.getTokenVersion());
+        assertEquals("ROLE_JOB_SEEKER", principal.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void testTamperedOrForeignTokens_AreRejected() {
+        String token = jwtUtils.generateTokenFromUsername("sam@example.com");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        JwtUtils other = new JwtUtils();
+        ReflectionTestUtils.setField(other, "jwtVerifier", new JwtVerifier(SECRET.replace('0', '1')));
+        ReflectionTestUtils.setField(other, "jwtExpirationMs", 60000);
+
+        assertTrue(jwtUtils.validateJwtToken(token));
+        assertFalse(jwtUtils.validateJwtToken(tampered));
+        assertFalse(jwtUtils.validateJwtToken(other.generateTokenFromUsername("sam@example.com")));
+        assertFalse(jwtUtils.validateJwtToken("not-a-token"));
+    }
+
+    @Test
+    void testTokenWithoutClaims_HasNoPrincipal() {
+        String token = jwtUtils.generateTokenFromUsername("sam@example.com");
+
+        assertNull(jwtUtils.getPrincipalFromJwtToken(token));
+        assertEquals("sam@example.com", jwtUtils.getUserNameFromJwtToken(token));
+    }
+}
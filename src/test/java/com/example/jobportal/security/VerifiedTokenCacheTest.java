@@ -0,0 +1,115 @@
+package com.example.jobportal.security;
+
+import com.example.jobportal.model.Role;
+import com.example.jobportal.model.User;
+import com.example.jobportal.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class VerifiedTokenCacheTest {
+
+    private JwtVerifier verifier;
+    private JwtUtils jwtUtils;
+    private UserRepository userRepository;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        verifier = new JwtVerifier("test-secret-test-secret-test-secret-test-secret-0123456789");
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtVerifier", verifier);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60000);
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(0));
+        when(userRepository.findTokenVersionById(2L)).thenReturn(Optional.of(0));
+        cache = cache(60000);
+    }
+
+    @Test
+    void testRepeatedToken_IsVerifiedOnce() {
+        String token = jwtUtils.generateTokenForUser(user(1L, 0));
+
+        assertNotNull(cache.verify(token));
+        assertNotNull(cache.verify(token));
+        assertNotNull(cache.verify(token));
+
+        assertEquals(1, cache.stats().missCount());
+        assertEquals(2, cache.stats().hitCount());
+    }
+
+    @Test
+    void testInvalidToken_IsNotCached() {
+        assertNull(cache.verify("not-a-token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testRevokeUser_EvictsAndRejectsOlderVersions() {
+        String first = jwtUtils.generateTokenForUser(user(1L, 0));
+        String other = jwtUtils.generateTokenForUser(user(2L, 0));
+        cache.verify(first);
+        cache.verify(other);
+
+        cache.revokeUser(1L, 1);
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.isRevoked(verifier.toPrincipal(cache.verify(first))));
+        assertFalse(cache.isRevoked(verifier.toPrincipal(cache.verify(other))));
+        assertFalse(cache.isRevoked(verifier.toPrincipal(cache.verify(jwtUtils.generateTokenForUser(user(1L, 1))))));
+    }
+
+    @Test
+    void testRevokeOnAnotherInstance_IsSeenAfterTheVersionTtl() {
+        cache = cache(0);
+        JwtPrincipal principal = verifier.toPrincipal(cache.verify(jwtUtils.generateTokenForUser(user(1L, 0))));
+        assertFalse(cache.isRevoked(principal));
+
+        // Another instance handled the logout and bumped the column
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(1));
+
+        assertTrue(cache.isRevoked(principal));
+    }
+
+    @Test
+    void testTokenOfDeletedUser_IsRevoked() {
+        JwtPrincipal principal = verifier.toPrincipal(cache.verify(jwtUtils.generateTokenForUser(user(3L, 0))));
+
+        assertTrue(cache.isRevoked(principal));
+    }
+
+    @Test
+    void testTokenVersion_IsReadOncePerTtl() {
+        JwtPrincipal principal = verifier.toPrincipal(cache.verify(jwtUtils.generateTokenForUser(user(1L, 0))));
+
+        cache.isRevoked(principal);
+        cache.isRevoked(principal);
+
+        verify(userRepository, times(1)).findTokenVersionById(1L);
+    }
+
+    private VerifiedTokenCache cache(long versionTtlMs) {
+        VerifiedTokenCache cache = new VerifiedTokenCache(verifier, 100, versionTtlMs);
+        ReflectionTestUtils.setField(cache, "userRepository", userRepository);
+        return cache;
+    }
+
+    private static User user(Long id, int tokenVersion) {
+        User user = new User("Sam", "Seeker", "user" + id + "@example.com", "password", Role.JOB_SEEKER);
+        user.setId(id);
+        user.setTokenVersion(tokenVersion);
+        return user;
+    }
+}
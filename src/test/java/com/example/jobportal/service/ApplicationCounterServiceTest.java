@@ -0,0 +1,138 @@
+package com.example.jobportal.service;
+
+import com.example.jobportal.model.ApplicationCounter.Scope;
+import com.example.jobportal.model.ApplicationStatus;
+import com.example.jobportal.model.Job;
+import com.example.jobportal.model.JobApplication;
+import com.example.jobportal.model.Role;
+import com.example.jobportal.model.User;
+import com.example.jobportal.repository.ApplicationCounterRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counters follow application writes and the reconciliation puts drifted ones back in line with job_applications,
+ * on one instance at a time
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationCounterService.class, TaskLeaseService.class})
+public class ApplicationCounterServiceTest {
+
+    @Autowired
+    private ApplicationCounterService applicationCounterService;
+
+    @Autowired
+    private ApplicationCounterRepository applicationCounterRepository;
+
+    @Autowired
+    private TaskLeaseService taskLeaseService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User provider;
+    private User seeker;
+    private Job job;
+    private JobApplication application;
+
+    @BeforeEach
+    void setUp() {
+        provider = persist(new User("Jane", "Provider", "jane@example.com", "password", Role.JOB_PROVIDER));
+        seeker = persist(new User("Sam", "Seeker", "sam@example.com", "password", Role.JOB_SEEKER));
+        User other = persist(new User("Alex", "Seeker", "alex@example.com", "password", Role.JOB_SEEKER));
+        job = persist(new Job("Java Developer", "Description", "Tech Corp", "Pune", provider));
+
+        application = persist(new JobApplication(job, seeker));
+        JobApplication reviewed = new JobApplication(job, other);
+        reviewed.setStatus(ApplicationStatus.UNDER_REVIEW);
+        persist(reviewed);
+        entityManager.flush();
+    }
+
+    @Test
+    void testReconcile_FillsCountersFromApplications() {
+        applicationCounterService.reconcile();
+
+        assertEquals(2, applicationCounterService.total(Scope.JOB, job.getId()));
+        assertEquals(2, applicationCounterService.total(Scope.PROVIDER, provider.getId()));
+        assertEquals(1, applicationCounterService.count(Scope.PROVIDER, provider.getId(), ApplicationStatus.UNDER_REVIEW));
+        assertEquals(1, applicationCounterService.count(Scope.APPLICANT, seeker.getId(), ApplicationStatus.APPLIED));
+        assertEquals(0, applicationCounterService.count(Scope.APPLICANT, seeker.getId(), ApplicationStatus.OFFERED));
+    }
+
+    @Test
+    void testWrites_MoveCountsBetweenStatuses() {
+        applicationCounterService.reconcile();
+
+        application.setStatus(ApplicationStatus.SHORTLISTED);
+        applicationCounterService.statusChanged(application, ApplicationStatus.APPLIED);
+
+        assertEquals(0, applicationCounterService.count(Scope.JOB, job.getId(), ApplicationStatus.APPLIED));
+        assertEquals(1, applicationCounterService.count(Scope.JOB, job.getId(), ApplicationStatus.SHORTLISTED));
+        assertEquals(1, applicationCounterService.count(Scope.APPLICANT, seeker.getId(), ApplicationStatus.SHORTLISTED));
+        assertEquals(2, applicationCounterService.total(Scope.PROVIDER, provider.getId()));
+
+        Job second = persist(new Job("Kotlin Developer", "Description", "Tech Corp", "Pune", provider));
+        applicationCounterService.applied(persist(new JobApplication(second, seeker)));
+
+        assertEquals(3, applicationCounterService.total(Scope.PROVIDER, provider.getId()));
+        assertEquals(1, applicationCounterService.total(Scope.JOB, second.getId()));
+        assertEquals(2, applicationCounterService.total(Scope.APPLICANT, seeker.getId()));
+    }
+
+    @Test
+    void testReconcile_RepairsDrift() {
+        applicationCounterService.reconcile();
+
+        // A lost increment, a phantom one, and a counter whose applications are gone
+        applicationCounterRepository.add(Scope.JOB.name(), job.getId(), ApplicationStatus.APPLIED.name(), -1);
+        applicationCounterRepository.add(Scope.PROVIDER.name(), provider.getId(), ApplicationStatus.OFFERED.name(), 3);
+        applicationCounterRepository.add(Scope.APPLICANT.name(), -1L, ApplicationStatus.APPLIED.name(), 5);
+        entityManager.clear();
+
+        applicationCounterService.reconcile();
+
+        assertEquals(1, applicationCounterService.count(Scope.JOB, job.getId(), ApplicationStatus.APPLIED));
+        assertEquals(0, applicationCounterService.count(Scope.PROVIDER, provider.getId(), ApplicationStatus.OFFERED));
+        assertEquals(2, applicationCounterService.total(Scope.PROVIDER, provider.getId()));
+        assertEquals(0, applicationCounterService.total(Scope.APPLICANT, -1L));
+    }
+
+    @Test
+    void testInsertIfAbsent_LeavesACounterCreatedMeanwhileAlone() {
+        // A writer counted the first application after the reconciliation found no counter
+        applicationCounterService.applied(application);
+
+        assertEquals(0, applicationCounterRepository.insertIfAbsent(Scope.JOB.name(), job.getId(),
+                ApplicationStatus.APPLIED.name(), 1));
+        assertEquals(1, applicationCounterService.count(Scope.JOB, job.getId(), ApplicationStatus.APPLIED));
+    }
+
+    @Test
+    void testLease_HeldUntilItExpires() {
+        String task = "test-" + System.nanoTime();
+
+        assertTrue(taskLeaseService.tryAcquire(task, Duration.ofHours(1)));
+        assertFalse(taskLeaseService.tryAcquire(task, Duration.ofHours(1)));
+        assertTrue(taskLeaseService.tryAcquire("other-" + task, Duration.ofHours(1)));
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.jobportal.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeysetCursorTest {
+
+    @Test
+    void testEncodeDecode_RoundTripsMicrosecondTimestamps() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 9, 17, 45, 1, 987_654_000);
+
+        String token = new KeysetCursor(createdAt, 123456L).encode();
+        KeysetCursor cursor = KeysetCursor.decode(token);
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(createdAt, cursor.getTimestamp());
+        assertEquals(123456L, cursor.getId());
+    }
+
+    @Test
+    void testDecode_BlankIsFirstPageAndGarbageIsRejected() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(" "));
+        assertThrows(RuntimeException.class, () -> KeysetCursor.decode("not a cursor"));
+        assertThrows(RuntimeException.class, () -> KeysetCursor.decode("AAAA"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.jobportal.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the SQL statements executed and result rows read through the application's DataSource
+ * between {@link #start()} and {@link #stop()}. Import {@link Config} into a Spring test to wrap the DataSource.
+ */
+public final class QueryCounter {
+
+    private static final AtomicLong statements = new AtomicLong();
+    private static final AtomicLong rows = new AtomicLong();
+    private static volatile boolean counting = false;
+
+    private QueryCounter() {
+    }
+
+    public static void start() {
+        statements.set(0);
+        rows.set(0);
+        counting = true;
+    }
+
+    public static Counts stop() {
+        counting = false;
+        return new Counts(statements.get(), rows.get());
+    }
+
+    /**
+     * Statements and rows seen in one counting window
+     */
+    public static final class Counts {
+        private final long statements;
+        private final long rows;
+
+        Counts(long statements, long rows) {
+            this.statements = statements;
+            this.rows = rows;
+        }
+
+        public long getStatements() {
+            return statements;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        @Override
+        public String toString() {
+            return statements + " statements, " + rows + " rows";
+        }
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource && !(bean instanceof CountingDataSource)) {
+                        return new CountingDataSource((DataSource) bean);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    private static final class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(Connection.class, super.getConnection(username, password));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T wrap(Class<T> type, T target) {
+        return (T) Proxy.newProxyInstance(QueryCounter.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (target instanceof Connection && result instanceof Statement) {
+                        return wrap((Class<Statement>) method.getReturnType(), (Statement) result);
+                    }
+                    if (target instanceof Statement && method.getName().startsWith("execute") && counting) {
+                        statements.incrementAndGet();
+                    }
+                    if (target instanceof Statement && result instanceof ResultSet
+                            && !"getGeneratedKeys".equals(method.getName())) {
+                        return wrap(ResultSet.class, (ResultSet) result);
+                    }
+                    if (target instanceof ResultSet && "next".equals(method.getName())
+                            && Boolean.TRUE.equals(result) && counting) {
+                        rows.incrementAndGet();
+                    }
+                    return result;
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}